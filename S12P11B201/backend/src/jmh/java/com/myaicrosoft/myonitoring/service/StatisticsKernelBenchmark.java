@@ -0,0 +1,91 @@
+package com.myaicrosoft.myonitoring.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 계산 커널 벤치마크 (고양이 한 마리의 30일 구간 평균/증감률/상태 판정)
+ * - bigDecimal: 고정소수점 변경 이전의 BigDecimal 계산 (비교 기준)
+ * - fixedPoint: StatisticsService의 1/100, 1/10000 단위 정수 계산
+ * - 결과는 고양이 한 마리당 시간(ns/op)으로 보고합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(StatisticsKernelBenchmark.CATS)
+public class StatisticsKernelBenchmark {
+
+    static final int CATS = 1024;
+    private static final long CHANGE_THRESHOLD = 2_000; // ThresholdDetector와 같은 20% (1/10000 단위)
+    private static final BigDecimal INCREASE_THRESHOLD = BigDecimal.valueOf(0.2);
+    private static final BigDecimal DECREASE_THRESHOLD = BigDecimal.valueOf(-0.2);
+
+    private final int[] totals = new int[CATS];
+    private final int[] sums7d = new int[CATS];
+    private final int[] counts7d = new int[CATS];
+    private final int[] sums30d = new int[CATS];
+    private final int[] counts30d = new int[CATS];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < CATS; i++) {
+            counts30d[i] = 1 + random.nextInt(30);
+            counts7d[i] = Math.min(counts30d[i], 1 + random.nextInt(7));
+            int daily = 50 + random.nextInt(250);
+            sums30d[i] = daily * counts30d[i] + random.nextInt(100);
+            sums7d[i] = daily * counts7d[i] + random.nextInt(50);
+            totals[i] = random.nextInt(400);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < CATS; i++) {
+            BigDecimal avg7d = average(sums7d[i], counts7d[i]);
+            BigDecimal avg30d = average(sums30d[i], counts30d[i]);
+            BigDecimal change7d = changeRate(totals[i], avg7d);
+            BigDecimal change30d = changeRate(totals[i], avg30d);
+            int status = change30d.compareTo(INCREASE_THRESHOLD) >= 0 ? 1
+                    : change30d.compareTo(DECREASE_THRESHOLD) <= 0 ? -1 : 0;
+            blackhole.consume(avg7d);
+            blackhole.consume(avg30d);
+            blackhole.consume(change7d);
+            blackhole.consume(status);
+        }
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole blackhole) {
+        for (int i = 0; i < CATS; i++) {
+            long avg7d = StatisticsService.calculateAverage(sums7d[i], counts7d[i]);
+            long avg30d = StatisticsService.calculateAverage(sums30d[i], counts30d[i]);
+            long change7d = StatisticsService.calculateChangeRate(totals[i], avg7d);
+            long change30d = StatisticsService.calculateChangeRate(totals[i], avg30d);
+            int status = change30d >= CHANGE_THRESHOLD ? 1 : change30d <= -CHANGE_THRESHOLD ? -1 : 0;
+            blackhole.consume(avg7d);
+            blackhole.consume(avg30d);
+            blackhole.consume(change7d);
+            blackhole.consume(status);
+        }
+    }
+
+    private static BigDecimal average(int sum, int count) {
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal changeRate(int totalIntake, BigDecimal averageIntake) {
+        if (averageIntake.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(totalIntake).subtract(averageIntake).divide(averageIntake, 4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,91 @@
+package com.myaicrosoft.myonitoring.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업 실행기 설정
+ * - 수집 트랜잭션이 커밋된 뒤 이상 감지와 알림(FCM 전송, 알림 로그 저장)을 별도 스레드에서 처리합니다.
+ * - 일간 통계 생성 작업의 청크를 정해진 수의 스레드에서 병렬로 처리합니다.
+ * - 관리자가 요청한 과거 통계 재계산을 스레드 하나에서 순서대로 처리합니다.
+ * - 비동기 수집 큐를 비우며 배치로 저장하는 드레이너를 정해진 수의 스레드에서 실행합니다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String ANOMALY_EXECUTOR = "anomalyDetectionExecutor";
+    public static final String STATISTICS_EXECUTOR = "statisticsJobExecutor";
+    public static final String BACKFILL_EXECUTOR = "statisticsBackfillExecutor";
+    public static final String INGEST_DRAIN_EXECUTOR = "ingestDrainExecutor";
+
+    /**
+     * 이상 감지/알림 전용 실행기
+     * - 큐가 가득 차면 호출한 스레드에서 실행해, 알림을 버리지 않고 수집 속도를 늦춥니다. (커밋은 이미 끝난 상태)
+     */
+    @Bean(name = ANOMALY_EXECUTOR)
+    public ThreadPoolTaskExecutor anomalyDetectionExecutor(
+            @Value("${ingest.anomaly.core-pool-size:2}") int corePoolSize,
+            @Value("${ingest.anomaly.max-pool-size:4}") int maxPoolSize,
+            @Value("${ingest.anomaly.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("anomaly-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 일간 통계 생성 작업 전용 실행기
+     * - 스레드마다 DB 커넥션을 하나씩 사용하므로 커넥션 풀 크기보다 작게 설정합니다.
+     */
+    @Bean(name = STATISTICS_EXECUTOR)
+    public ThreadPoolTaskExecutor statisticsJobExecutor(@Value("${statistics.job.threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("stat-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 과거 통계 재계산 전용 실행기
+     * - 날짜 순서대로 이어서 계산해야 하고 운영 트래픽에 영향을 주지 않아야 하므로 스레드 하나만 사용합니다.
+     * - 재계산은 한 번에 하나만 실행되며, 이전 작업 스레드가 막 끝나는 중에 새 재계산을 받을 수 있도록 대기 큐는 1로 둡니다.
+     */
+    @Bean(name = BACKFILL_EXECUTOR)
+    public ThreadPoolTaskExecutor statisticsBackfillExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("stat-backfill-");
+        return executor;
+    }
+
+    /**
+     * 비동기 수집 큐 드레이너 전용 실행기
+     * - 드레이너는 종료 전까지 큐를 비우는 루프이므로 스레드 수만큼만 실행되며, 종료 시 저장 중인 배치가 끝날 때까지 기다립니다.
+     */
+    @Bean(name = INGEST_DRAIN_EXECUTOR)
+    public ThreadPoolTaskExecutor ingestDrainExecutor(@Value("${ingest.queue.drainer-threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("ingest-drainer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
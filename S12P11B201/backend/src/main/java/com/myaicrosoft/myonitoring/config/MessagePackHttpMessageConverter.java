@@ -0,0 +1,19 @@
+package com.myaicrosoft.myonitoring.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+/**
+ * MessagePack 형식의 요청/응답 본문을 Jackson으로 변환하는 HttpMessageConverter
+ * - 기기(라즈베리파이)에서 JSON 대신 보내는 바이너리 인코딩을 같은 DTO로 역직렬화합니다.
+ */
+public class MessagePackHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final String APPLICATION_MSGPACK_VALUE = "application/msgpack";
+    public static final MediaType APPLICATION_MSGPACK = MediaType.parseMediaType(APPLICATION_MSGPACK_VALUE);
+
+    public MessagePackHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, APPLICATION_MSGPACK, new MediaType("application", "x-msgpack"));
+    }
+}
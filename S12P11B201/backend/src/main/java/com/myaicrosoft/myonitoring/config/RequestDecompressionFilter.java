@@ -0,0 +1,223 @@
+package com.myaicrosoft.myonitoring.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Content-Encoding(gzip, deflate)으로 압축된 요청 본문을 스트리밍으로 해제하는 필터
+ * - 기기가 하루치 버퍼를 압축해 한 번에 업로드할 수 있도록 데이터 수집 경로에만 등록합니다.
+ * - 본문 전체를 메모리에 풀지 않고 읽는 만큼만 해제하며, 해제된 크기가 상한을 넘으면
+ *   {@link InflatedSizeLimitExceededException}으로 읽기를 중단합니다. (압축 폭탄 방지)
+ */
+public class RequestDecompressionFilter extends OncePerRequestFilter {
+
+    private final long maxInflatedBytes;
+
+    public RequestDecompressionFilter(long maxInflatedBytes) {
+        this.maxInflatedBytes = maxInflatedBytes;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (!StringUtils.hasText(encoding) || "identity".equalsIgnoreCase(encoding.trim())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String coding = encoding.trim().toLowerCase();
+        if (!coding.equals("gzip") && !coding.equals("x-gzip") && !coding.equals("deflate")) {
+            // RFC 7694: 지원하지 않는 Content-Encoding은 415로 응답하고 지원 목록을 알려줌
+            response.setHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+            response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 Content-Encoding입니다: " + encoding);
+            return;
+        }
+
+        filterChain.doFilter(new DecompressedRequest(request, coding), response);
+    }
+
+    /**
+     * 압축 해제된 본문을 제공하는 요청 래퍼
+     * - 본문 길이를 알 수 없으므로 Content-Length/Content-Encoding 헤더는 숨깁니다.
+     */
+    private class DecompressedRequest extends HttpServletRequestWrapper {
+
+        private final String coding;
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        private DecompressedRequest(HttpServletRequest request, String coding) {
+            super(request);
+            this.coding = coding;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (reader != null) {
+                throw new IllegalStateException("getReader()가 이미 호출되었습니다.");
+            }
+            if (inputStream == null) {
+                inputStream = new LimitedServletInputStream(openInflater(super.getInputStream()), maxInflatedBytes);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String characterEncoding = getCharacterEncoding();
+                Charset charset = characterEncoding != null ? Charset.forName(characterEncoding) : StandardCharsets.UTF_8;
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+
+        private InputStream openInflater(InputStream compressed) throws IOException {
+            if (!coding.equals("deflate")) {
+                return new GZIPInputStream(compressed, 8192);
+            }
+            // HTTP의 deflate는 zlib 형식이지만 헤더 없는 raw deflate를 보내는 클라이언트도 있어 첫 바이트로 구분
+            BufferedInputStream buffered = new BufferedInputStream(compressed, 8192);
+            buffered.mark(2);
+            int first = buffered.read();
+            int second = buffered.read();
+            buffered.reset();
+            boolean zlibWrapped = first >= 0 && second >= 0 && (first & 0x0F) == 8 && ((first << 8) | second) % 31 == 0;
+            return new InflaterInputStream(buffered, new Inflater(!zlibWrapped), 8192);
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (isHiddenHeader(name)) {
+                return null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (isHiddenHeader(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames());
+            names.removeIf(this::isHiddenHeader);
+            return Collections.enumeration(names);
+        }
+
+        private boolean isHiddenHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    /**
+     * 읽은 바이트 수가 상한을 넘으면 예외를 던지는 입력 스트림
+     */
+    private static class LimitedServletInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private final long limit;
+        private long count;
+        private boolean finished;
+
+        private LimitedServletInputStream(InputStream delegate, long limit) {
+            this.delegate = delegate;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b < 0) {
+                finished = true;
+            } else {
+                addCount(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read < 0) {
+                finished = true;
+            } else {
+                addCount(read);
+            }
+            return read;
+        }
+
+        private void addCount(int read) throws IOException {
+            count += read;
+            if (count > limit) {
+                throw new InflatedSizeLimitExceededException(limit);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("압축 해제 요청은 비동기 읽기를 지원하지 않습니다.");
+        }
+    }
+
+    /**
+     * 압축 해제된 본문이 허용 크기를 넘었을 때 발생하는 예외 (413 응답으로 변환)
+     */
+    public static class InflatedSizeLimitExceededException extends IOException {
+        public InflatedSizeLimitExceededException(long limit) {
+            super("압축 해제된 요청 본문이 허용 크기(" + limit + " bytes)를 초과했습니다.");
+        }
+    }
+}
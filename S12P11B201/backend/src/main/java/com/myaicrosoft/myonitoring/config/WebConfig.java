@@ -1,19 +1,33 @@
 package com.myaicrosoft.myonitoring.config;
 
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
     @Value("${app.api-prefix}")
     private String apiPrefix;
 
+    @Value("${ingest.decompression.max-inflated-bytes:16777216}")
+    private long maxInflatedBytes;
+
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder; // Spring Boot의 Jackson 설정이 적용된 빌더 (프로토타입)
+
     @Override
     public void configurePathMatch(PathMatchConfigurer configurer) {
         configurer.addPathPrefix(apiPrefix, c -> true);
@@ -24,4 +38,27 @@ public class WebConfig implements WebMvcConfigurer {
         return new RestTemplate();
     }
 
+    /**
+     * 데이터 수집 경로에 gzip/deflate 요청 본문 압축 해제 필터 등록
+     */
+    @Bean
+    public FilterRegistrationBean<RequestDecompressionFilter> requestDecompressionFilter() {
+        FilterRegistrationBean<RequestDecompressionFilter> registration =
+                new FilterRegistrationBean<>(new RequestDecompressionFilter(maxInflatedBytes));
+        registration.addUrlPatterns(apiPrefix + "/data-collection/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * MessagePack 요청/응답 변환기 추가 (Content-Type: application/msgpack)
+     * - JSON과 같은 DTO와 Jackson 설정(날짜 모듈 등)을 그대로 사용하고 인코딩만 바이너리로 바꿉니다.
+     * - 목록 맨 뒤에 추가하므로 Accept 헤더로 msgpack을 요청하지 않은 클라이언트는 계속 JSON 응답을 받습니다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MessagePackHttpMessageConverter(
+                objectMapperBuilder.factory(new MessagePackFactory()).build()));
+    }
+
 } 
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.myaicrosoft.myonitoring.controller;
+
+import com.myaicrosoft.myonitoring.model.dto.DashboardCacheMetricsDto;
+import com.myaicrosoft.myonitoring.model.dto.DeviceIngestMetricsDto;
+import com.myaicrosoft.myonitoring.model.dto.IngestQueueMetricsDto;
+import com.myaicrosoft.myonitoring.service.DashboardCache;
+import com.myaicrosoft.myonitoring.service.IngestQueueService;
+import com.myaicrosoft.myonitoring.service.IngestRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 운영 메트릭을 조회하는 관리자 전용 컨트롤러 클래스
+ * - "/admin/**" 경로는 SecurityConfig에서 ADMIN 권한으로 제한됩니다.
+ */
+@RestController
+@RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
+@RequestMapping("/admin/metrics")
+public class AdminMetricsController {
+
+    private final IngestQueueService ingestQueueService;
+    private final IngestRateLimiter ingestRateLimiter;
+    private final DashboardCache dashboardCache;
+
+    /**
+     * 비동기 수집 큐 메트릭 조회 API
+     *
+     * @return 큐 깊이, 배출 속도, 배치 크기 등 메트릭 (DTO)
+     */
+    @GetMapping("/ingest-queue")
+    public ResponseEntity<IngestQueueMetricsDto> getIngestQueueMetrics() {
+        return ResponseEntity.ok(ingestQueueService.getMetrics());
+    }
+
+    /**
+     * 기기별 수집 통계 조회 API (속도 제한/유효성 거부가 많은 기기 순)
+     *
+     * @param limit 최대 기기 수 (기본값 50)
+     * @return 기기별 허용/제한/거부 레코드 수 (DTO 리스트)
+     */
+    @GetMapping("/devices")
+    public ResponseEntity<List<DeviceIngestMetricsDto>> getDeviceMetrics(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(ingestRateLimiter.getDeviceMetrics(limit));
+    }
+
+    /**
+     * 대시보드 캐시 메트릭 조회 API
+     *
+     * @return 항목 수, 적중/미스/제거/무효화 수 (DTO)
+     */
+    @GetMapping("/dashboard-cache")
+    public ResponseEntity<DashboardCacheMetricsDto> getDashboardCacheMetrics() {
+        return ResponseEntity.ok(dashboardCache.getMetrics());
+    }
+}
@@ -0,0 +1,69 @@
+package com.myaicrosoft.myonitoring.controller;
+
+import com.myaicrosoft.myonitoring.model.dto.StatisticsBackfillRequest;
+import com.myaicrosoft.myonitoring.model.dto.StatisticsBackfillStatusDto;
+import com.myaicrosoft.myonitoring.service.StatisticsBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 통계 데이터를 관리하는 관리자 전용 컨트롤러 클래스
+ * - "/admin/**" 경로는 SecurityConfig에서 ADMIN 권한으로 제한됩니다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
+@RequestMapping("/admin/statistics")
+public class AdminStatisticsController {
+
+    private final StatisticsBackfillService statisticsBackfillService;
+
+    /**
+     * 과거 통계 재계산 시작 API
+     * - 재계산은 백그라운드에서 날짜 순서대로 진행되며, 진행 상황은 GET 요청으로 조회합니다.
+     *
+     * @param request 재계산 날짜 범위와 고양이 ID 목록 (DTO)
+     * @return 시작되면 HTTP 202와 진행 상황, 요청이 올바르지 않으면 400, 이미 실행 중이면 409와 현재 진행 상황 반환
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<StatisticsBackfillStatusDto> startBackfill(@RequestBody StatisticsBackfillRequest request) {
+        try {
+            StatisticsBackfillStatusDto status = statisticsBackfillService.start(
+                    request.getStartDate(), request.getEndDate(), request.getCatIds());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+        } catch (IllegalArgumentException e) {
+            log.warn("통계 재계산 요청 거부: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(statisticsBackfillService.getStatus());
+        }
+    }
+
+    /**
+     * 과거 통계 재계산 진행 상황 조회 API
+     *
+     * @return 마지막으로 시작한 재계산의 진행 상황 (DTO)
+     */
+    @GetMapping("/backfill")
+    public ResponseEntity<StatisticsBackfillStatusDto> getBackfillStatus() {
+        return ResponseEntity.ok(statisticsBackfillService.getStatus());
+    }
+
+    /**
+     * 과거 통계 재계산 취소 API (진행 중인 청크까지 커밋한 뒤 멈춤)
+     *
+     * @return 현재 진행 상황 (DTO)
+     */
+    @DeleteMapping("/backfill")
+    public ResponseEntity<StatisticsBackfillStatusDto> cancelBackfill() {
+        return ResponseEntity.ok(statisticsBackfillService.cancel());
+    }
+}
@@ -1,12 +1,27 @@
 package com.myaicrosoft.myonitoring.controller;
 
 import lombok.RequiredArgsConstructor;
+import com.myaicrosoft.myonitoring.config.RequestDecompressionFilter;
+import com.myaicrosoft.myonitoring.model.dto.DataCollectionBatchResponse;
 import com.myaicrosoft.myonitoring.model.dto.DataCollectionRequest;
+import com.myaicrosoft.myonitoring.model.dto.NdjsonIngestResponse;
 import com.myaicrosoft.myonitoring.service.DataCollectionService;
+import com.myaicrosoft.myonitoring.service.IngestQueueService;
+import com.myaicrosoft.myonitoring.service.IngestRateLimiter;
+import com.myaicrosoft.myonitoring.service.NdjsonIngestService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 임베디드 기기로부터 데이터를 수집하여 저장하는 컨트롤러 클래스
  */
@@ -16,16 +31,189 @@ import org.springframework.web.bind.annotation.*;
 public class DataCollectionController {
 
     private final DataCollectionService dataCollectionService;
+    private final IngestQueueService ingestQueueService;
+    private final NdjsonIngestService ndjsonIngestService;
+    private final IngestRateLimiter ingestRateLimiter;
+
+    @Value("${ingest.queue.retry-after-seconds:5}")
+    private long retryAfterSeconds;
 
     /**
      * 데이터를 수집하고 저장하는 API
      *
      * @param request 수집된 데이터 요청 객체 (DTO)
-     * @return HTTP 201 상태 코드 반환
+     * @return HTTP 201 상태 코드 반환 (이미 수집된 시퀀스 번호면 저장하지 않고 HTTP 200, 전송 속도 제한 초과 시 429 반환)
      */
     @PostMapping
     public ResponseEntity<Void> collectData(@RequestBody DataCollectionRequest request) {
-        dataCollectionService.saveData(request);
+        long waitNanos = ingestRateLimiter.tryAcquire(List.of(request));
+        if (waitNanos > 0) {
+            return throttled(waitNanos);
+        }
+
+        boolean saved;
+        try {
+            saved = dataCollectionService.saveData(request);
+        } catch (IllegalArgumentException e) {
+            ingestRateLimiter.recordOutcome(request.getSerialNumber(), 0, 1);
+            throw e;
+        }
+        ingestRateLimiter.recordOutcome(request.getSerialNumber(), 1, 0);
+
+        if (!saved) {
+            return ResponseEntity.ok().build();
+        }
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
+
+    /**
+     * 기기가 오프라인 동안 모아둔 데이터를 한 번에 수집하고 저장하는 API
+     * - 같은 시리얼 넘버의 feeding/intake/eye 레코드를 섞어서 보낼 수 있습니다.
+     *
+     * @param requests 수집된 데이터 요청 객체 배열 (DTO)
+     * @return 레코드별 처리 결과와 함께 HTTP 200 상태 코드 반환 (전송 속도 제한 초과 시 429, 기기당 타입별 최대 개수 초과 시 413 반환)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<DataCollectionBatchResponse> collectBatchData(@RequestBody List<DataCollectionRequest> requests) {
+        long waitNanos = ingestRateLimiter.tryAcquire(requests);
+        if (waitNanos > 0) {
+            return throttled(waitNanos);
+        }
+
+        String serialNumber = requests.isEmpty() ? null : requests.get(0).getSerialNumber();
+        DataCollectionBatchResponse response;
+        try {
+            response = dataCollectionService.saveBatch(requests);
+        } catch (IllegalArgumentException e) {
+            ingestRateLimiter.recordOutcome(serialNumber, 0, requests.size());
+            throw e;
+        }
+        ingestRateLimiter.recordOutcome(serialNumber, response.getAccepted() + response.getDuplicates(), response.getRejected());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 긴 오프라인 기록을 NDJSON(한 줄에 레코드 하나)으로 받아 스트리밍으로 저장하는 API
+     * - 본문 전체를 메모리에 올리지 않고 읽으면서 청크 단위로 저장합니다.
+     * - 전송 속도 제한에 걸리면 앞 줄까지만 저장하고 429(Retry-After)와 함께 재개 줄 번호(resumeFromLine)를 반환합니다.
+     *
+     * @param request HTTP 요청 (Content-Type: application/x-ndjson)
+     * @return 저장/중복/거부된 줄 번호 요약과 함께 HTTP 200 상태 코드 반환 (전송 속도 제한 초과 시 429 반환)
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<NdjsonIngestResponse> collectNdjsonData(HttpServletRequest request) throws IOException {
+        NdjsonIngestResponse response = ndjsonIngestService.ingest(request.getInputStream());
+        if (response.getRetryAfterSeconds() != null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(response.getRetryAfterSeconds()))
+                    .body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 데이터를 검증한 뒤 비동기 저장 큐에 넣는 API
+     * - 저장은 백그라운드 드레이너가 배치로 수행하므로 DB/알림 지연과 무관하게 바로 응답합니다.
+     * - 202는 메모리 큐에 들어갔다는 뜻이며 저장 완료를 보장하지 않습니다. (서버 비정상 종료나 재시도 초과 시 유실 가능)
+     *   기기는 202를 받은 레코드도 보관해 두었다가 재전송할 수 있으며, 시퀀스 번호를 보낸 레코드는 이미 저장되었으면 중복으로 무시됩니다.
+     *
+     * @param request 수집된 데이터 요청 객체 (DTO)
+     * @return 큐에 들어가면 HTTP 202, 유효하지 않으면 400, 큐가 가득 차거나 전송 속도 제한 초과 시 429(Retry-After) 반환
+     */
+    @PostMapping("/async")
+    public ResponseEntity<Void> collectDataAsync(@RequestBody DataCollectionRequest request) {
+        try {
+            dataCollectionService.validateRecord(request);
+        } catch (IllegalArgumentException e) {
+            ingestRateLimiter.recordOutcome(request.getSerialNumber(), 0, 1);
+            return ResponseEntity.badRequest().build();
+        }
+
+        long waitNanos = ingestRateLimiter.tryAcquire(List.of(request));
+        if (waitNanos > 0) {
+            return throttled(waitNanos);
+        }
+        if (!ingestQueueService.enqueue(request)) {
+            ingestRateLimiter.refund(List.of(request));
+            return tooManyRequests();
+        }
+        ingestRateLimiter.recordOutcome(request.getSerialNumber(), 1, 0);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+    /**
+     * 여러 건의 데이터를 검증한 뒤 비동기 저장 큐에 넣는 API
+     * - 202의 의미는 /async와 같습니다. (큐에 들어감, 저장 완료 아님)
+     *
+     * @param requests 수집된 데이터 요청 객체 배열 (DTO)
+     * @return 모두 큐에 들어가면 HTTP 202, 유효하지 않은 레코드가 있으면 400, 기기당 타입별 최대 개수 초과 시 413,
+     *         큐 용량이 부족하거나 전송 속도 제한 초과 시 429(Retry-After) 반환
+     */
+    @PostMapping("/async/batch")
+    public ResponseEntity<Void> collectBatchDataAsync(@RequestBody List<DataCollectionRequest> requests) {
+        try {
+            requests.forEach(dataCollectionService::validateRecord);
+        } catch (IllegalArgumentException e) {
+            requests.forEach(request -> ingestRateLimiter.recordOutcome(request.getSerialNumber(), 0, 1));
+            return ResponseEntity.badRequest().build();
+        }
+
+        long waitNanos = ingestRateLimiter.tryAcquire(requests);
+        if (waitNanos > 0) {
+            return throttled(waitNanos);
+        }
+        if (!ingestQueueService.enqueueAll(requests)) {
+            ingestRateLimiter.refund(requests);
+            return tooManyRequests();
+        }
+        requests.forEach(request -> ingestRateLimiter.recordOutcome(request.getSerialNumber(), 1, 0));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+    /**
+     * 압축 해제된 본문이 허용 크기를 넘은 경우 413, 그 외 본문 파싱 실패는 400으로 응답
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Void> handleUnreadableBody(HttpMessageNotReadableException e) {
+        if (e.getMostSpecificCause() instanceof RequestDecompressionFilter.InflatedSizeLimitExceededException) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * NDJSON 스트리밍 수집 중 압축 해제된 본문이 허용 크기를 넘은 경우 413으로 응답
+     */
+    @ExceptionHandler(RequestDecompressionFilter.InflatedSizeLimitExceededException.class)
+    public ResponseEntity<Void> handleInflatedSizeLimitExceeded() {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+    }
+
+    /**
+     * 한 요청의 기기당 타입별 레코드 수가 속도 제한의 burst를 넘은 경우 최대 개수를 알려주는 413으로 응답
+     * - 기다려도 허용될 수 없는 요청이므로 429 대신 413을 반환해 기기가 나눠서 보내도록 합니다.
+     */
+    @ExceptionHandler(IngestRateLimiter.BatchTooLargeException.class)
+    public ResponseEntity<String> handleBatchTooLarge(IngestRateLimiter.BatchTooLargeException e) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getMessage());
+    }
+
+    /**
+     * 기기별 전송 속도 제한을 넘었을 때 다음 토큰까지 남은 시간을 알려주는 429 응답을 생성하는 메서드
+     */
+    private <T> ResponseEntity<T> throttled(long waitNanos) {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .build();
+    }
+
+    /**
+     * 큐가 가득 찼을 때 기기에 재전송 대기 시간을 알려주는 429 응답을 생성하는 메서드
+     */
+    private ResponseEntity<Void> tooManyRequests() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
 }
@@ -1,10 +1,14 @@
 package com.myaicrosoft.myonitoring.controller;
 
 import lombok.RequiredArgsConstructor;
+import com.myaicrosoft.myonitoring.model.dto.EyeDiseaseDetailResponseDto;
+import com.myaicrosoft.myonitoring.service.CatDataVersionService;
 import com.myaicrosoft.myonitoring.service.EyeService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -17,19 +21,26 @@ import java.time.LocalDate;
 public class EyeController {
 
     private final EyeService eyeService;
+    private final CatDataVersionService catDataVersionService;
 
     /**
      * 특정 고양이의 특정 날짜 안구 질환 데이터를 조회하는 API
      *
      * @param catPk 고양이 ID (Primary Key)
      * @param day   조회할 날짜
+     * @param webRequest If-None-Match 확인용 요청 (ETag가 같으면 304 Not Modified 반환)
      * @return 안구 질환 데이터 또는 메시지 반환
      */
     @GetMapping("/{catPk}/detail")
-    public ResponseEntity<Object> getEyeDiseaseDetails(
+    public ResponseEntity<EyeDiseaseDetailResponseDto> getEyeDiseaseDetails(
             @PathVariable("catPk") Long catPk,
-            @RequestParam("day") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
-        Object result = eyeService.getEyeDiseaseDetails(catPk, day);
-        return ResponseEntity.ok(result);
+            @RequestParam("day") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day,
+            WebRequest webRequest) {
+        String eTag = catDataVersionService.getETag(catPk);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 데이터 버전이 같으면 서비스 조회 없이 304 Not Modified
+        }
+        EyeDiseaseDetailResponseDto result = eyeService.getEyeDiseaseDetails(catPk, day);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(result);
     }
 }
@@ -1,10 +1,15 @@
 package com.myaicrosoft.myonitoring.controller;
 
 import lombok.RequiredArgsConstructor;
+import com.myaicrosoft.myonitoring.model.dto.DailyIntakeFeedingDto;
+import com.myaicrosoft.myonitoring.model.dto.FeedingIntakeDetailDto;
+import com.myaicrosoft.myonitoring.service.CatDataVersionService;
 import com.myaicrosoft.myonitoring.service.IntakeService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -20,20 +25,27 @@ import java.util.List;
 public class IntakeController {
 
     private final IntakeService intakeService;
+    private final CatDataVersionService catDataVersionService;
 
     /**
      * 일간 누적 섭취량 조회 API
      *
      * @param catPk 고양이 ID (Primary Key)
      * @param day   조회할 날짜
+     * @param webRequest If-None-Match 확인용 요청 (ETag가 같으면 304 Not Modified 반환)
      * @return 해당 날짜의 누적 섭취량 (BigDecimal)
      */
     @GetMapping("/{catPk}/day/cum")
     public ResponseEntity<BigDecimal> getDailyCumulativeIntake(
             @PathVariable Long catPk,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day,
+            WebRequest webRequest) {
+        String eTag = catDataVersionService.getETag(catPk);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 데이터 버전이 같으면 서비스 조회 없이 304 Not Modified
+        }
         BigDecimal cumulativeIntake = intakeService.getDailyCumulativeIntake(catPk, day);
-        return ResponseEntity.ok(cumulativeIntake);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(cumulativeIntake);
     }
 
     /**
@@ -41,14 +53,20 @@ public class IntakeController {
      *
      * @param catPk     고양이 ID (Primary Key)
      * @param weekStart 주간 시작 날짜
-     * @return 주간 누적 섭취량 및 급여량 데이터 (Map 형식)
+     * @param webRequest If-None-Match 확인용 요청 (ETag가 같으면 304 Not Modified 반환)
+     * @return 주간 누적 섭취량 및 급여량 데이터 (날짜별 DTO)
      */
     @GetMapping("/{catPk}/week/cum")
-    public ResponseEntity<Map<String, Map<String, Integer>>> getWeeklyCumulativeData(
+    public ResponseEntity<Map<String, DailyIntakeFeedingDto>> getWeeklyCumulativeData(
             @PathVariable("catPk") Long catPk,
-            @RequestParam("week_start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart) {
-        Map<String, Map<String, Integer>> weeklyData = intakeService.getWeeklyCumulativeData(catPk, weekStart);
-        return ResponseEntity.ok(weeklyData);
+            @RequestParam("week_start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart,
+            WebRequest webRequest) {
+        String eTag = catDataVersionService.getETag(catPk);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 데이터 버전이 같으면 서비스 조회 없이 304 Not Modified
+        }
+        Map<String, DailyIntakeFeedingDto> weeklyData = intakeService.getWeeklyCumulativeData(catPk, weekStart);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(weeklyData);
     }
 
     /**
@@ -56,13 +74,19 @@ public class IntakeController {
      *
      * @param catPk 고양이 ID (Primary Key)
      * @param day   조회할 날짜
-     * @return 급여 및 섭취 상세 데이터 리스트 (List 형식)
+     * @param webRequest If-None-Match 확인용 요청 (ETag가 같으면 304 Not Modified 반환)
+     * @return 급여 및 섭취 상세 데이터 리스트 (급여 시간순)
      */
     @GetMapping("/{catPk}/detail")
-    public ResponseEntity<List<Map<String, Object>>> getDailyFeedingAndIntakeDetails(
+    public ResponseEntity<List<FeedingIntakeDetailDto>> getDailyFeedingAndIntakeDetails(
             @PathVariable("catPk") Long catPk,
-            @RequestParam("day") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
-        List<Map<String, Object>> details = intakeService.getDailyFeedingAndIntakeDetails(catPk, day);
-        return ResponseEntity.ok(details);
+            @RequestParam("day") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day,
+            WebRequest webRequest) {
+        String eTag = catDataVersionService.getETag(catPk);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 데이터 버전이 같으면 서비스 조회 없이 304 Not Modified
+        }
+        List<FeedingIntakeDetailDto> details = intakeService.getDailyFeedingAndIntakeDetails(catPk, day);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(details);
     }
 }
@@ -1,13 +1,16 @@
 package com.myaicrosoft.myonitoring.controller;
 
 import lombok.RequiredArgsConstructor;
+import com.myaicrosoft.myonitoring.model.dto.MainPageResponseDto;
+import com.myaicrosoft.myonitoring.service.CatDataVersionService;
 import com.myaicrosoft.myonitoring.service.MainPageService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
-import java.util.Map;
 
 /**
  * 메인 페이지 데이터를 처리하는 컨트롤러 클래스
@@ -18,19 +21,26 @@ import java.util.Map;
 public class MainPageController {
 
     private final MainPageService mainPageService;
+    private final CatDataVersionService catDataVersionService;
 
     /**
      * 메인 페이지 데이터를 조회하는 API
      *
      * @param catPk 고양이 ID (Primary Key)
      * @param day   조회할 날짜 (YYYY-MM-DD 형식)
-     * @return 메인 페이지에 필요한 데이터 (JSON 형식)
+     * @param webRequest If-None-Match 확인용 요청 (ETag가 같으면 304 Not Modified 반환)
+     * @return 메인 페이지에 필요한 데이터 (DTO)
      */
     @GetMapping("/{catPk}")
-    public ResponseEntity<Map<String, Object>> getMainPageData(
+    public ResponseEntity<MainPageResponseDto> getMainPageData(
             @PathVariable("catPk") Long catPk,
-            @RequestParam("day") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
-        Map<String, Object> result = mainPageService.getMainPageData(catPk, day);
-        return ResponseEntity.ok(result);
+            @RequestParam("day") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day,
+            WebRequest webRequest) {
+        String eTag = catDataVersionService.getETag(catPk);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 데이터 버전이 같으면 서비스 조회 없이 304 Not Modified
+        }
+        MainPageResponseDto result = mainPageService.getMainPageData(catPk, day);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(result);
     }
 }
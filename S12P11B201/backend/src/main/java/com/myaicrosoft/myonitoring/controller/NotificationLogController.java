@@ -1,10 +1,13 @@
 package com.myaicrosoft.myonitoring.controller;
 
 import com.myaicrosoft.myonitoring.model.dto.NotificationLogResponse;
+import com.myaicrosoft.myonitoring.service.CatDataVersionService;
 import com.myaicrosoft.myonitoring.service.NotificationLogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -20,16 +23,23 @@ import java.util.Map;
 public class NotificationLogController {
 
     private final NotificationLogService notificationLogService;
+    private final CatDataVersionService catDataVersionService;
 
     /**
      * 특정 고양이의 모든 알림 로그 데이터를 날짜별로 그룹화하고 내림차순으로 반환합니다.
      *
      * @param catPk 고양이 ID (Primary Key)
+     * @param webRequest If-None-Match 확인용 요청 (ETag가 같으면 304 Not Modified 반환)
      * @return 날짜별로 그룹화된 알림 로그 데이터 (날짜와 시간 내림차순 정렬)
      */
     @GetMapping("/{cat_pk}")
-    public ResponseEntity<Map<LocalDate, List<NotificationLogResponse>>> getLogsGroupedByDate(@PathVariable("cat_pk") Long catPk) {
+    public ResponseEntity<Map<LocalDate, List<NotificationLogResponse>>> getLogsGroupedByDate(@PathVariable("cat_pk") Long catPk,
+                                                                                              WebRequest webRequest) {
+        String eTag = catDataVersionService.getETag(catPk);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 데이터 버전이 같으면 서비스 조회 없이 304 Not Modified
+        }
         Map<LocalDate, List<NotificationLogResponse>> groupedLogs = notificationLogService.getLogsGroupedByDate(catPk);
-        return ResponseEntity.ok(groupedLogs);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(groupedLogs);
     }
 }
@@ -0,0 +1,29 @@
+package com.myaicrosoft.myonitoring.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 고양이의 섭취/급여/안구/의료 기록, 알림 로그나 프로필이 변경되었을 때 발행되는 이벤트
+ * - 커밋 직전에 고양이의 데이터 버전(ETag)을 올리고(CatDataVersionService),
+ *   커밋 이후 대시보드 캐시(DashboardCache)에서 변경된 날짜의 항목만 무효화하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CatDataChangedEvent {
+    private final Long catId;            // 고양이 ID
+    private final DataType dataType;     // 변경된 데이터 종류
+    private final Set<LocalDate> dates;  // 변경된 기록의 날짜 (PROFILE은 비어 있음)
+
+    public enum DataType {
+        INTAKE,   // 섭취 기록
+        FEEDING,  // 급여 기록
+        EYE,      // 안구 촬영 기록
+        MEDICAL,  // 의료 기록
+        NOTIFICATION, // 알림 로그
+        PROFILE   // 고양이 정보 (프로필 이미지 등) 변경 또는 삭제
+    }
+}
@@ -0,0 +1,22 @@
+package com.myaicrosoft.myonitoring.event;
+
+import com.myaicrosoft.myonitoring.model.dto.DataCollectionRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 안구 촬영 결과가 저장되었을 때 발행되는 이벤트
+ * - 트랜잭션 커밋 이후 안구 질환 감지에 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class EyeScanRecordedEvent {
+    private final Long catId;                                   // 고양이 ID
+    private final String catName;                               // 고양이 이름 (알림 메시지용)
+    private final Long userId;                                  // 소유자 ID (알림 대상)
+    private final LocalDateTime capturedDateTime;               // 촬영 시간
+    private final List<DataCollectionRequest.Payload.EyeInfo> eyes; // 눈별 질환 확률
+}
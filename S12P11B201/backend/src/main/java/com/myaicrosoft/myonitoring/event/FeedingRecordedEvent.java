@@ -0,0 +1,21 @@
+package com.myaicrosoft.myonitoring.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 급여 기록이 저장되었을 때 발행되는 이벤트
+ * - 트랜잭션 커밋 이후 급여량 이상 감지에 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedingRecordedEvent {
+    private final Long catId;                     // 고양이 ID
+    private final String catName;                 // 고양이 이름 (알림 메시지용)
+    private final Long userId;                    // 소유자 ID (알림 대상)
+    private final LocalDateTime feedingDateTime;  // 급여 시간
+    private final Integer configuredAmount;       // 설정된 급여량
+    private final Integer actualAmount;           // 실제 급여량
+}
@@ -0,0 +1,19 @@
+package com.myaicrosoft.myonitoring.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 일간 통계가 생성, 갱신 또는 삭제되었을 때 발행되는 이벤트
+ * - 커밋 직전에 고양이들의 데이터 버전(ETag)을 올리고(CatDataVersionService),
+ *   커밋 이후 대시보드 캐시(DashboardCache)에서 해당 통계를 보여주는 다음 날 항목을 무효화하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StatisticsUpdatedEvent {
+    private final LocalDate statDate;        // 통계 날짜
+    private final Collection<Long> catIds;   // 통계가 바뀐 고양이 ID
+}
@@ -0,0 +1,16 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import com.myaicrosoft.myonitoring.model.entity.Cat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 고양이별 섭취량 이상 감지 방식 DTO 클래스
+ * - 통계 생성 시 고양이 엔티티를 로딩하지 않고 감지 방식만 조회하는 용도로 사용합니다.
+ */
+@Data
+@AllArgsConstructor
+public class CatAnomalyDetectorDto {
+    private Long catId;                            // 고양이 ID
+    private Cat.AnomalyDetector anomalyDetector;   // 섭취량 이상 감지 방식
+}
@@ -0,0 +1,16 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 기기 시리얼 넘버로 조회한 고양이/소유자 정보 DTO 클래스
+ * - 데이터 수집 시 엔티티를 로딩하지 않고 필요한 값만 조회해 캐시하는 용도로 사용합니다.
+ */
+@Data
+@AllArgsConstructor
+public class CatBindingDto {
+    private Long catId;    // 고양이 ID
+    private String catName; // 고양이 이름 (알림 메시지용)
+    private Long userId;   // 기기 소유자 ID (알림 전송용)
+}
@@ -0,0 +1,15 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 고양이별 하루 총 섭취량 DTO 클래스
+ * - 섭취 기록을 엔티티로 로딩하지 않고 DB에서 고양이별로 합산한 결과를 담습니다. (통계 생성용)
+ */
+@Data
+@AllArgsConstructor
+public class CatDailyIntakeDto {
+    private Long catId;       // 고양이 ID
+    private Long totalIntake; // 하루 총 섭취량 (g)
+}
@@ -2,6 +2,7 @@ package com.myaicrosoft.myonitoring.model.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import com.myaicrosoft.myonitoring.model.entity.Cat;
 import com.myaicrosoft.myonitoring.model.entity.Gender;
 
 import java.math.BigDecimal;
@@ -20,4 +21,5 @@ public class CatDetailResponseDto {
     private BigDecimal weight;
     private String characteristics; // 선택 값
     private String profileImageUrl; // 선택 값
+    private Cat.AnomalyDetector anomalyDetector; // 섭취량 이상 감지 방식 (null이면 기본 감지 방식)
 }
@@ -1,5 +1,6 @@
 package com.myaicrosoft.myonitoring.model.dto;
 
+import com.myaicrosoft.myonitoring.model.entity.Cat;
 import com.myaicrosoft.myonitoring.model.entity.Gender;
 import lombok.Data;
 
@@ -20,4 +21,5 @@ public class CatUpdateRequest {
     private BigDecimal weight; // 필수 필드: 체중
     private String characteristics; // 선택 필드: 특징
     private String profileImageUrl; // 선택 필드: 프로필 이미지 URL
+    private Cat.AnomalyDetector anomalyDetector; // 선택 필드: 섭취량 이상 감지 방식 (null이면 변경하지 않음)
 }
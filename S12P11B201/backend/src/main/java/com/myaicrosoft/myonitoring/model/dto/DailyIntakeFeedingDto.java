@@ -0,0 +1,14 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 주간 누적 조회의 하루치 섭취량/급여량 DTO 클래스
+ */
+@Data
+@AllArgsConstructor
+public class DailyIntakeFeedingDto {
+    private int feeding; // (설정) 급여량 합계
+    private int intake;  // 섭취량 합계
+}
@@ -0,0 +1,19 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 대시보드 캐시 메트릭 DTO 클래스
+ */
+@Data
+@AllArgsConstructor
+public class DashboardCacheMetricsDto {
+    private int size;            // 현재 항목 수
+    private int maxSize;         // 최대 항목 수
+    private long hits;           // 캐시 적중 수
+    private long misses;         // 캐시 미스 수
+    private double hitRate;      // 적중률 (0-1)
+    private long evictions;      // 크기 초과 또는 만료로 제거된 항목 수
+    private long invalidations;  // 데이터 변경 이벤트로 무효화한 키 수
+}
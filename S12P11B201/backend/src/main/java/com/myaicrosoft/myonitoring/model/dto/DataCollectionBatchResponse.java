@@ -0,0 +1,36 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 배치 데이터 수집 응답 DTO 클래스
+ * - 레코드별 처리 결과를 요청 배열의 인덱스 순서대로 반환합니다.
+ */
+@Data
+@AllArgsConstructor
+public class DataCollectionBatchResponse {
+    private int accepted;               // 저장된 레코드 수
+    private int rejected;               // 거부된 레코드 수
+    private int duplicates;             // 이미 수집되어 무시한 레코드 수
+    private List<RecordResult> results; // 레코드별 처리 결과
+
+    /**
+     * 레코드 처리 상태
+     */
+    public enum Status {
+        ACCEPTED, // 저장 완료
+        REJECTED, // 유효성 검증 실패로 저장하지 않음
+        DUPLICATE // 이미 수집된 시퀀스 번호라 저장하지 않음 (재전송 성공으로 간주)
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class RecordResult {
+        private int index;      // 요청 배열 내 인덱스 (0부터 시작)
+        private Status status;  // 처리 상태
+        private String message; // 거부 사유 (저장된 경우 null)
+    }
+}
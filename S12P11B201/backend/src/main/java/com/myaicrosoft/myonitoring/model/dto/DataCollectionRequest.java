@@ -16,6 +16,12 @@ public class DataCollectionRequest {
 
     private String type; // 데이터 타입 (feeding, intake, eye)
 
+    @JsonProperty("seq")
+    private Long sequenceNumber; // 기기 측 시퀀스 번호 (선택, 데이터 타입별로 증가, 재전송 중복 제거용)
+
+    @JsonProperty("seq_epoch")
+    private Long sequenceEpoch; // 시퀀스 번호 세대 (선택, 기기 카운터가 초기화될 때마다 바꾸는 값, 예: 초기화 횟수, 없으면 0)
+
     private Payload data; // 타입별 데이터
 
     @Data
@@ -0,0 +1,20 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기기별 데이터 수집 통계 응답 DTO 클래스
+ * - 시리얼 넘버가 "*"인 항목은 추적 기기 수를 넘어 함께 집계된 기기들입니다.
+ */
+@Data
+@AllArgsConstructor
+public class DeviceIngestMetricsDto {
+    private String serialNumber;     // 기기의 시리얼 넘버
+    private long accepted;           // 허용된 누적 레코드 수
+    private long throttled;          // 속도 제한으로 거부된 누적 레코드 수 (429 응답)
+    private long rejected;           // 유효성 검증 실패로 거부된 누적 레코드 수
+    private LocalDateTime lastSeen;  // 마지막 요청 시각
+}
@@ -0,0 +1,47 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 날짜의 안구 질환 상세 응답 DTO 클래스
+ * - 질환 기록이 없으면 message만, 있으면 date_time, images, data를 포함합니다. (값이 없는 필드는 응답에서 제외)
+ */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EyeDiseaseDetailResponseDto {
+    private String message; // 질환 기록이 없을 때 안내 메시지
+
+    @JsonProperty("date_time")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private LocalDateTime dateTime; // 촬영 시각 (LocalDateTime.toString() 형식)
+
+    private EyeImages images; // 양쪽 눈 이미지 URL
+
+    private List<Map<String, EyeProbability>> data; // 확률이 0.5 이상인 질환 (예: {"blepharitis_prob": {"left": 0.2, "right": 0.7}})
+
+    @Data
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class EyeImages {
+        private String left;
+        private String right;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class EyeProbability {
+        private BigDecimal left;
+        private BigDecimal right;
+    }
+}
@@ -0,0 +1,45 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 일간 급여 및 섭취 상세 응답 DTO 클래스 (급여 한 건과 다음 급여 전까지의 섭취 기록)
+ * - 시각은 LocalTime.toString() 형식(HH:mm, 초가 있으면 HH:mm:ss)으로 직렬화합니다.
+ */
+@Data
+@AllArgsConstructor
+public class FeedingIntakeDetailDto {
+    private FeedingDetail feeding;     // 급여 정보
+    private List<IntakeDetail> intake; // 급여 이후 섭취 기록 (시간순)
+
+    @Data
+    @AllArgsConstructor
+    public static class FeedingDetail {
+        @JsonSerialize(using = ToStringSerializer.class)
+        private LocalTime time; // 급여 시각
+
+        private Integer amount; // 설정 급여량
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class IntakeDetail {
+        @JsonProperty("start_time")
+        @JsonSerialize(using = ToStringSerializer.class)
+        private LocalTime startTime; // 섭취 시작 시각
+
+        @JsonProperty("end_time")
+        @JsonSerialize(using = ToStringSerializer.class)
+        private LocalTime endTime; // 섭취 종료 시각 (시작 시각 + 섭취 시간)
+
+        @JsonProperty("cumulative_amount")
+        private int cumulativeAmount; // 급여 이후 누적 섭취량
+    }
+}
@@ -0,0 +1,17 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 급여 시각과 (설정) 급여량만 조회한 DTO 클래스
+ * - 일간 급여/섭취 상세 조회에서 엔티티를 로딩하지 않고 시간순으로 조회하는 용도로 사용합니다.
+ */
+@Data
+@AllArgsConstructor
+public class FeedingTimeDto {
+    private LocalDateTime feedingDateTime;   // 급여 시각
+    private Integer configuredFeedingAmount; // 설정 급여량
+}
@@ -0,0 +1,26 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 비동기 수집 큐 메트릭 응답 DTO 클래스
+ */
+@Data
+@AllArgsConstructor
+public class IngestQueueMetricsDto {
+    private int queueDepth;            // 현재 큐에 쌓인 레코드 수
+    private int queueCapacity;         // 큐 최대 용량
+    private long enqueued;             // 누적 enqueue 레코드 수
+    private long rejected;             // 큐가 가득 차서 거부된 누적 레코드 수 (429 응답)
+    private long drained;              // 저장 완료된 누적 레코드 수
+    private long failed;               // 유효성 실패 등 재시도해도 저장할 수 없어 거부된 누적 레코드 수
+    private long lost;                 // 일시적 DB 오류가 재시도 후에도 계속되어 저장하지 못한 누적 레코드 수
+    private long retries;              // 일시적 DB 오류로 배치 저장을 다시 시도한 누적 횟수
+    private long duplicates;           // 이미 수집되어 무시한 누적 레코드 수
+    private long batches;              // 드레이너가 처리한 누적 배치 수
+    private int lastBatchSize;         // 마지막 배치 크기
+    private int maxBatchSize;          // 관측된 최대 배치 크기
+    private double averageBatchSize;   // 평균 배치 크기
+    private double drainRatePerSecond; // 최근 구간의 초당 저장 레코드 수
+}
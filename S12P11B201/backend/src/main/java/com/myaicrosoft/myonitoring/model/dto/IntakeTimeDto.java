@@ -0,0 +1,18 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 섭취 시각, 섭취 시간, 섭취량만 조회한 DTO 클래스
+ * - 일간 급여/섭취 상세 조회에서 엔티티를 로딩하지 않고 시간순으로 조회하는 용도로 사용합니다.
+ */
+@Data
+@AllArgsConstructor
+public class IntakeTimeDto {
+    private LocalDateTime intakeDateTime; // 섭취 시작 시각
+    private Integer intakeDuration;       // 섭취 시간 (분)
+    private Integer intakeAmount;         // 섭취량
+}
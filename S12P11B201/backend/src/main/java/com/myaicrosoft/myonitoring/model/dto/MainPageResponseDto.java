@@ -0,0 +1,41 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 메인 페이지 응답 DTO 클래스
+ * - 필드 순서는 기존 응답의 키 순서와 같습니다.
+ */
+@Data
+@AllArgsConstructor
+public class MainPageResponseDto {
+    @JsonProperty("cat_image")
+    private String catImage; // 고양이 프로필 이미지 URL
+
+    private Alert medical; // 그날의 의료 기록 (data: 카테고리 소문자 이름)
+
+    @JsonProperty("eye_alert")
+    private Alert eyeAlert; // 그날의 안구 질환 이상 (data: 질환 이름)
+
+    @JsonProperty("intake_alert")
+    private Alert intakeAlert; // 섭취량 이상 (flag만 사용)
+
+    @JsonProperty("total_intake")
+    private Integer totalIntake; // 그날의 총 섭취량
+
+    /**
+     * 알림 항목 (flag: 0 없음, 1 있음, 섭취량은 -1 감소 / 1 증가, data는 항목이 있을 때만 포함)
+     */
+    @Data
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Alert {
+        private int flag;
+        private List<String> data;
+    }
+}
@@ -0,0 +1,33 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import com.myaicrosoft.myonitoring.model.entity.MedicalCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 메인 페이지 요약 조회 결과 DTO 클래스
+ * - 고양이, 일 단위 섭취 집계, 전날 통계, 그날 마지막 안구 질환 기록, 그날 의료 기록을 한 번의 쿼리로 조회한 한 행입니다.
+ * - 의료 기록이 여러 개이면 의료 기록마다 한 행이 조회되며, 의료 기록 외의 값은 모든 행에서 같습니다.
+ */
+@Data
+@AllArgsConstructor
+public class MainPageSummaryDto {
+    private String profileImageUrl;           // 고양이 프로필 이미지 URL
+    private Integer totalIntake;              // 조회 날짜의 총 섭취량 (일 단위 집계가 없으면 null)
+    private Integer changeStatus;             // 전날 통계의 증감 상태 (통계가 없으면 null)
+    private Integer changeDays;               // 전날 통계의 증감 상태 연속 일수 (통계가 없으면 null)
+    private Long eyeId;                       // 조회 날짜의 마지막 안구 질환 기록 ID (없으면 null)
+    private BigDecimal rightBlepharitisProb;
+    private BigDecimal rightConjunctivitisProb;
+    private BigDecimal rightCornealSequestrumProb;
+    private BigDecimal rightNonUlcerativeKeratitisProb;
+    private BigDecimal rightCornealUlcerProb;
+    private BigDecimal leftBlepharitisProb;
+    private BigDecimal leftConjunctivitisProb;
+    private BigDecimal leftCornealSequestrumProb;
+    private BigDecimal leftNonUlcerativeKeratitisProb;
+    private BigDecimal leftCornealUlcerProb;
+    private MedicalCategory medicalCategory;  // 조회 날짜의 의료 기록 카테고리 (없으면 null)
+}
@@ -0,0 +1,34 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * NDJSON 스트리밍 수집 응답 DTO 클래스
+ * - 줄 번호는 1부터 시작하며, 저장/중복 줄은 연속 구간("1-500")으로 묶어 반환합니다.
+ * - resumeFromLine이 있으면 본문을 끝까지 처리하지 않은 것이므로, 기기는 해당 줄부터 다시 보내야 합니다.
+ */
+@Data
+@AllArgsConstructor
+public class NdjsonIngestResponse {
+    private long totalLines;                 // 읽은 레코드 줄 수 (빈 줄 제외)
+    private long accepted;                   // 저장된 레코드 수
+    private long rejected;                   // 거부된 레코드 수
+    private long duplicates;                 // 이미 수집되어 무시한 레코드 수
+    private List<String> acceptedLines;      // 저장된 줄 번호 구간
+    private List<String> duplicateLines;     // 중복으로 무시한 줄 번호 구간
+    private boolean lineRangesTruncated;     // 저장/중복 구간이 최대 개수를 넘어 일부만 포함되었는지 여부
+    private List<RejectedLine> rejectedLines; // 거부된 줄 번호와 사유 (최대 개수까지만 포함)
+    private boolean rejectedLinesTruncated;  // 거부된 줄이 최대 개수를 넘어 일부만 포함되었는지 여부
+    private Long resumeFromLine;             // 처리를 중단한 경우 다시 보내야 하는 첫 줄 번호 (끝까지 처리했으면 null)
+    private Long retryAfterSeconds;          // 전송 속도 제한으로 중단한 경우 재전송까지 기다릴 시간(초) (그 외 null)
+
+    @Data
+    @AllArgsConstructor
+    public static class RejectedLine {
+        private long line;      // 줄 번호
+        private String message; // 거부 사유
+    }
+}
@@ -0,0 +1,16 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 과거 통계 재계산 요청 DTO 클래스
+ */
+@Data
+public class StatisticsBackfillRequest {
+    private LocalDate startDate; // 재계산 시작 날짜 (필수)
+    private LocalDate endDate;   // 재계산 끝 날짜 (선택, 기본값: 어제)
+    private List<Long> catIds;   // 재계산할 고양이 ID 목록 (선택, 없으면 전체 고양이)
+}
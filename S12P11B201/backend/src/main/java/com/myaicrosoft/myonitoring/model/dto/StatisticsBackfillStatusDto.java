@@ -0,0 +1,31 @@
+package com.myaicrosoft.myonitoring.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 과거 통계 재계산 진행 상황 DTO 클래스
+ * - 요청한 끝 날짜 이후의 통계도 7일/30일 구간에 재계산된 날짜가 포함되므로,
+ *   최대 30일 뒤(어제까지)의 통계를 함께 다시 계산합니다. (recomputeEndDate)
+ */
+@Data
+@AllArgsConstructor
+public class StatisticsBackfillStatusDto {
+    private String state;               // 상태 (IDLE, RUNNING, COMPLETED, CANCELLED, FAILED)
+    private LocalDate startDate;        // 재계산 시작 날짜
+    private LocalDate endDate;          // 요청한 끝 날짜
+    private LocalDate recomputeEndDate; // 구간 합계 연쇄를 포함해 실제로 재계산하는 끝 날짜
+    private List<Long> catIds;          // 재계산할 고양이 ID 목록 (null이면 전체 고양이)
+    private long totalDays;             // 재계산할 날짜 수
+    private long completedDays;         // 재계산이 끝난 날짜 수
+    private LocalDate currentDate;      // 재계산 중인 날짜
+    private long deletedStatistics;     // 삭제한 기존 통계 수
+    private long createdStatistics;     // 새로 생성한 통계 수
+    private LocalDateTime startedAt;    // 시작 시각
+    private LocalDateTime finishedAt;   // 종료 시각
+    private String message;             // 실패/취소 사유
+}
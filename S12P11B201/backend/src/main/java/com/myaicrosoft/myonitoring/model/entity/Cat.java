@@ -50,4 +50,22 @@ public class Cat {
 
     @Column(length = 2048)
     private String profileImageUrl;
+
+    // 섭취량 이상 감지 방식 (null이면 설정의 기본값 사용)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private AnomalyDetector anomalyDetector;
+
+    // 대시보드 데이터 버전 (기록/통계/알림 로그가 바뀔 때마다 1씩 증가, 조회 응답의 ETag에 사용)
+    // - CatRepository.incrementDataVersion으로만 올리며, 엔티티 저장이 다른 트랜잭션이 올린 값을 덮어쓰지 않도록 UPDATE에서 제외합니다.
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Long dataVersion = 0L;
+
+    public enum AnomalyDetector {
+        THRESHOLD,   // 30일 평균 대비 ±20%
+        EWMA,        // 지수가중이동평균과 분산 대비 z-점수
+        Z_SCORE,     // 최근 30일 평균과 분산 대비 z-점수
+        DAY_OF_WEEK  // 같은 요일의 지수가중이동평균과 분산 대비 z-점수
+    }
 }
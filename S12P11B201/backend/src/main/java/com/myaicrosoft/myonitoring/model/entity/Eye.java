@@ -7,7 +7,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "eye_records") // 테이블 이름 지정
+@Table(name = "eye_records", // 테이블 이름 지정
+        uniqueConstraints = @UniqueConstraint(name = "uk_eye_device_seq", columnNames = {"device_serial_number", "device_seq_epoch", "device_seq"}),
+        indexes = @Index(name = "idx_eye_cat_diseased_time", columnList = "cat_id, is_eye_diseased, captured_date_time"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +18,9 @@ import java.time.LocalDateTime;
 public class Eye {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "eye_id_generator")
+    @TableGenerator(name = "eye_id_generator", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "eye_records", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -75,4 +79,16 @@ public class Eye {
 
     @Column(name = "left_eye_image_url")
     private String leftEyeImageUrl;
+
+    // 기기 측 시퀀스 번호 (재전송 중복 제거용, 보내지 않은 기기는 null)
+    @Column(name = "device_seq")
+    private Long deviceSeq;
+
+    // 시퀀스 번호를 보낸 기기의 시리얼 넘버 (기기 교체/재연결 시 번호가 겹치지 않도록 기기 단위로 중복 판단, 시퀀스 번호가 없으면 null)
+    @Column(name = "device_serial_number", length = 100)
+    private String deviceSerialNumber;
+
+    // 기기 시퀀스 번호 세대 (기기 카운터가 초기화될 때 바뀌는 값, 보내지 않은 기기는 0, 시퀀스 번호가 없으면 null)
+    @Column(name = "device_seq_epoch")
+    private Long deviceSeqEpoch;
 }
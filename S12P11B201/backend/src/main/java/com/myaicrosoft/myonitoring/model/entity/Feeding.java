@@ -6,7 +6,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "feeding_records") // 테이블 이름 지정
+@Table(name = "feeding_records", // 테이블 이름 지정
+        uniqueConstraints = @UniqueConstraint(name = "uk_feeding_device_seq", columnNames = {"device_serial_number", "device_seq_epoch", "device_seq"}),
+        indexes = @Index(name = "idx_feeding_cat_time", columnList = "cat_id, feeding_date_time"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +17,9 @@ import java.time.LocalDateTime;
 public class Feeding {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "feeding_id_generator")
+    @TableGenerator(name = "feeding_id_generator", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "feeding_records", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -39,4 +43,16 @@ public class Feeding {
     // 실제 급여된 급여량
     @Column(nullable = false)
     private Integer actualFeedingAmount;
+
+    // 기기 측 시퀀스 번호 (재전송 중복 제거용, 보내지 않은 기기는 null)
+    @Column(name = "device_seq")
+    private Long deviceSeq;
+
+    // 시퀀스 번호를 보낸 기기의 시리얼 넘버 (기기 교체/재연결 시 번호가 겹치지 않도록 기기 단위로 중복 판단, 시퀀스 번호가 없으면 null)
+    @Column(name = "device_serial_number", length = 100)
+    private String deviceSerialNumber;
+
+    // 기기 시퀀스 번호 세대 (기기 카운터가 초기화될 때 바뀌는 값, 보내지 않은 기기는 0, 시퀀스 번호가 없으면 null)
+    @Column(name = "device_seq_epoch")
+    private Long deviceSeqEpoch;
 }
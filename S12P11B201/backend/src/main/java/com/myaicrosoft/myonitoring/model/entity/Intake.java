@@ -6,7 +6,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "intake_records") // 테이블 이름 지정
+@Table(name = "intake_records", // 테이블 이름 지정
+        uniqueConstraints = @UniqueConstraint(name = "uk_intake_device_seq", columnNames = {"device_serial_number", "device_seq_epoch", "device_seq"}),
+        indexes = @Index(name = "idx_intake_cat_time", columnList = "cat_id, intake_date_time"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,8 +16,11 @@ import java.time.LocalDateTime;
 @Builder
 public class Intake {
 
+    // 배치 INSERT가 가능하도록 IDENTITY 대신 테이블 기반 pooled-lo 전략 사용 (ID를 50개씩 미리 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "intake_id_generator")
+    @TableGenerator(name = "intake_id_generator", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "intake_records", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,4 +42,16 @@ public class Intake {
 
     @Column(precision = 6, scale = 2)
     private Integer intakeAmount;
+
+    // 기기 측 시퀀스 번호 (재전송 중복 제거용, 보내지 않은 기기는 null)
+    @Column(name = "device_seq")
+    private Long deviceSeq;
+
+    // 시퀀스 번호를 보낸 기기의 시리얼 넘버 (기기 교체/재연결 시 번호가 겹치지 않도록 기기 단위로 중복 판단, 시퀀스 번호가 없으면 null)
+    @Column(name = "device_serial_number", length = 100)
+    private String deviceSerialNumber;
+
+    // 기기 시퀀스 번호 세대 (기기 카운터가 초기화될 때 바뀌는 값, 보내지 않은 기기는 0, 시퀀스 번호가 없으면 null)
+    @Column(name = "device_seq_epoch")
+    private Long deviceSeqEpoch;
 }
@@ -0,0 +1,65 @@
+package com.myaicrosoft.myonitoring.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 고양이별 일 단위 섭취/급여 집계
+ * - 데이터 수집 시 같은 트랜잭션에서 증분 갱신(INSERT ... ON DUPLICATE KEY UPDATE)되므로,
+ *   조회 비용이 섭취/급여 기록 수와 관계없이 일정합니다.
+ */
+@Entity
+@Table(name = "intake_daily_rollups", // 테이블 이름 지정
+        uniqueConstraints = @UniqueConstraint(name = "uk_intake_daily_rollup_cat_date", columnNames = {"cat_id", "rollup_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IntakeDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(
+        name = "cat_id",
+        nullable = false,
+        foreignKey = @ForeignKey(
+            name = "fk_intake_daily_rollup_cat",
+            foreignKeyDefinition = "FOREIGN KEY (cat_id) REFERENCES cats(id) ON DELETE CASCADE"
+        )
+    )
+    private Cat cat;
+
+    // 집계 날짜
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    // 섭취량 합계 (g)
+    @Column(nullable = false)
+    private Integer intakeAmountSum;
+
+    // 섭취 횟수
+    @Column(nullable = false)
+    private Integer intakeCount;
+
+    // 섭취 시간 합계 (분)
+    @Column(nullable = false)
+    private Integer intakeDurationSum;
+
+    // 급여 횟수
+    @Column(nullable = false)
+    private Integer feedingCount;
+
+    // 설정 급여량 합계 (g)
+    @Column(nullable = false)
+    private Integer configuredFeedingSum;
+
+    // 실제 급여량 합계 (g)
+    @Column(nullable = false)
+    private Integer actualFeedingSum;
+}
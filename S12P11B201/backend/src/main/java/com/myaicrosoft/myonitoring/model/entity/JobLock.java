@@ -0,0 +1,38 @@
+package com.myaicrosoft.myonitoring.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 백엔드 인스턴스가 스케줄링 작업을 한 번만 실행하도록 하는 작업 잠금
+ * - 작업 이름마다 행 하나를 두고, 잠금 만료 시각(lockedUntil)이 지난 경우에만 조건부 UPDATE로 잠금을 가져갑니다.
+ * - 잠금을 가진 인스턴스가 종료되어도 만료 시각이 지나면 다른 인스턴스가 잠금을 가져갈 수 있습니다.
+ */
+@Entity
+@Table(name = "job_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLock {
+
+    // 작업 이름
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    // 잠금을 가진 인스턴스 ID
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    // 잠금을 가져간 시각 (같은 인스턴스의 이전 잠금과 구분하는 용도)
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    // 잠금 만료 시각 (이 시각이 지나면 다른 인스턴스가 가져갈 수 있음)
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
@@ -7,7 +7,8 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "medical_records") // 테이블 이름 지정
+@Table(name = "medical_records", // 테이블 이름 지정
+        indexes = @Index(name = "idx_medical_cat_date", columnList = "cat_id, visit_date")) // 고양이별 날짜 조회
 @Getter
 @Setter
 @NoArgsConstructor
@@ -7,7 +7,9 @@ import java.time.LocalDate;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "stat_records") // 테이블 이름 지정
+@Table(name = "stat_records", // 테이블 이름 지정
+        uniqueConstraints = @UniqueConstraint(name = "uk_stat_cat_date", columnNames = {"cat_id", "stat_date"}), // 고양이별 하루 하나
+        indexes = @Index(name = "idx_stat_date_change_days", columnList = "stat_date, change_days")) // 날짜별 이상 알림 대상 조회
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +18,9 @@ import java.math.BigDecimal;
 public class Statistics {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "stat_id_generator")
+    @TableGenerator(name = "stat_id_generator", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "stat_records", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -54,4 +58,28 @@ public class Statistics {
     // 1 또는 -1이 연속된 날짜 수
     @Column(nullable = false)
     private Integer changeDays;
+
+    // 이 날짜까지(포함) 최근 7일/30일 구간의 섭취량 합계와 통계가 있는 날짜 수
+    // 다음 날 통계를 만들 때 구간에 들어오는 날과 빠지는 날만 더하고 빼서 평균을 갱신합니다.
+    // (이 컬럼이 추가되기 전에 저장된 통계는 null이며, 다음 날 통계 생성 시 구간을 다시 계산합니다.)
+    private Integer sum7d;
+
+    private Integer count7d;
+
+    private Integer sum30d;
+
+    private Integer count30d;
+
+    // 최근 30일 구간의 섭취량 제곱합 (z-점수 이상 감지의 분산 계산용)
+    private Long sumSquares30d;
+
+    // 이 날짜까지 반영한 섭취량의 지수가중이동평균과 분산 (EWMA 이상 감지 상태)
+    private Double ewmaMean;
+
+    private Double ewmaVariance;
+
+    // 이 날짜까지 반영한 같은 요일 섭취량의 지수가중이동평균과 분산 (요일별 이상 감지 상태, 다음 주 같은 요일이 이어받음)
+    private Double seasonalMean;
+
+    private Double seasonalVariance;
 }
@@ -0,0 +1,50 @@
+package com.myaicrosoft.myonitoring.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일간 통계 생성 작업의 청크(고양이 ID 구간) 진행 상태
+ * - 작업 시작 시 날짜별 청크를 PENDING으로 등록하고, 청크의 통계와 같은 트랜잭션에서 DONE으로 바꿉니다.
+ * - 서버가 작업 도중 종료되면 다음 기동 시 PENDING 청크만 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "stat_job_chunks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stat_job_chunk_date_range", columnNames = {"stat_date", "range_start"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsJobChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 통계를 생성할 날짜
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    // 고양이 ID 구간 (시작/끝 모두 포함)
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private Status status;
+
+    // 처리 완료 시각
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        PENDING, DONE
+    }
+}
@@ -1,10 +1,18 @@
 package com.myaicrosoft.myonitoring.repository;
 
+import com.myaicrosoft.myonitoring.model.dto.CatAnomalyDetectorDto;
+import com.myaicrosoft.myonitoring.model.dto.CatBindingDto;
+import com.myaicrosoft.myonitoring.model.dto.MainPageSummaryDto;
 import com.myaicrosoft.myonitoring.model.entity.Cat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +38,87 @@ public interface CatRepository extends JpaRepository<Cat, Long> {
      */
     @Query("SELECT c FROM Cat c JOIN c.device d WHERE d.serialNumber = :serialNumber")
     Optional<Cat> findByDeviceSerialNumber(@Param("serialNumber") String serialNumber);
+
+    /**
+     * 기기의 시리얼 번호로 고양이 ID, 이름, 소유자 ID만 조회 (엔티티 로딩 없음)
+     *
+     * @param serialNumber 기기의 시리얼 번호
+     * @return 고양이/소유자 정보 DTO (Optional)
+     */
+    @Query("SELECT new com.myaicrosoft.myonitoring.model.dto.CatBindingDto(c.id, c.name, d.user.id) " +
+            "FROM Cat c JOIN c.device d WHERE d.serialNumber = :serialNumber")
+    Optional<CatBindingDto> findBindingByDeviceSerialNumber(@Param("serialNumber") String serialNumber);
+
+    /**
+     * 감지 방식을 지정한 고양이의 ID와 감지 방식만 조회 (지정하지 않은 고양이는 기본 감지 방식 사용)
+     *
+     * @param catIds 고양이 ID 목록
+     * @return 고양이별 감지 방식 DTO 리스트
+     */
+    @Query("SELECT new com.myaicrosoft.myonitoring.model.dto.CatAnomalyDetectorDto(c.id, c.anomalyDetector) " +
+            "FROM Cat c WHERE c.id IN :catIds AND c.anomalyDetector IS NOT NULL")
+    List<CatAnomalyDetectorDto> findAnomalyDetectorsByIdIn(@Param("catIds") Collection<Long> catIds);
+
+    /**
+     * 메인 페이지에 필요한 값만 한 번의 쿼리로 조회 (엔티티 로딩 없음)
+     * - 일 단위 섭취 집계(uk_intake_daily_rollup_cat_date), 전날 통계(uk_stat_cat_date),
+     *   그날 마지막 안구 질환 기록(idx_eye_cat_diseased_time), 그날 의료 기록(idx_medical_cat_date)을
+     *   모두 인덱스로 찾는 LEFT JOIN입니다.
+     * - 의료 기록마다 한 행이 조회되며, 고양이가 없으면 빈 리스트를 반환합니다.
+     *
+     * @param catId       고양이 ID
+     * @param day         조회 날짜
+     * @param previousDay 조회 날짜의 전날 (섭취량 이상 플래그용 통계 날짜)
+     * @param start       조회 날짜 시작 시각 (포함)
+     * @param end         다음 날 시작 시각 (미포함)
+     * @return 메인 페이지 요약 DTO 리스트
+     */
+    @Query("SELECT new com.myaicrosoft.myonitoring.model.dto.MainPageSummaryDto(" +
+            "c.profileImageUrl, r.intakeAmountSum, s.changeStatus, s.changeDays, e.id, " +
+            "e.rightBlepharitisProb, e.rightConjunctivitisProb, e.rightCornealSequestrumProb, " +
+            "e.rightNonUlcerativeKeratitisProb, e.rightCornealUlcerProb, " +
+            "e.leftBlepharitisProb, e.leftConjunctivitisProb, e.leftCornealSequestrumProb, " +
+            "e.leftNonUlcerativeKeratitisProb, e.leftCornealUlcerProb, m.category) " +
+            "FROM Cat c " +
+            "LEFT JOIN IntakeDailyRollup r ON r.cat = c AND r.rollupDate = :day " +
+            "LEFT JOIN Statistics s ON s.cat = c AND s.statDate = :previousDay " +
+            "LEFT JOIN Eye e ON e.cat = c AND e.isEyeDiseased = true AND e.capturedDateTime = " +
+            "(SELECT MAX(e2.capturedDateTime) FROM Eye e2 WHERE e2.cat = c AND e2.isEyeDiseased = true " +
+            "AND e2.capturedDateTime >= :start AND e2.capturedDateTime < :end) " +
+            "LEFT JOIN Medical m ON m.cat = c AND m.visitDate = :day " +
+            "WHERE c.id = :catId")
+    List<MainPageSummaryDto> findMainPageSummary(@Param("catId") Long catId,
+                                                 @Param("day") LocalDate day,
+                                                 @Param("previousDay") LocalDate previousDay,
+                                                 @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
+
+    /**
+     * 고양이 ID의 최댓값을 조회합니다. (통계 작업 청크 구간 계산용)
+     *
+     * @return 최대 고양이 ID (고양이가 없으면 null)
+     */
+    @Query("SELECT MAX(c.id) FROM Cat c")
+    Long findMaxId();
+
+    /**
+     * 고양이의 대시보드 데이터 버전만 조회 (PK 조회, 엔티티 로딩 없음)
+     *
+     * @param catId 고양이 ID
+     * @return 데이터 버전 (고양이가 없으면 Optional.empty())
+     */
+    @Query("SELECT c.dataVersion FROM Cat c WHERE c.id = :catId")
+    Optional<Long> findDataVersionById(@Param("catId") Long catId);
+
+    /**
+     * 고양이들의 대시보드 데이터 버전을 1씩 올립니다.
+     * - 호출한 쪽의 트랜잭션에 참여하므로, 버전은 변경된 기록과 함께 커밋됩니다. (트랜잭션이 없으면 새로 시작)
+     *
+     * @param catIds 고양이 ID 목록
+     * @return 버전을 올린 고양이 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Cat c SET c.dataVersion = c.dataVersion + 1 WHERE c.id IN :catIds")
+    int incrementDataVersion(@Param("catIds") Collection<Long> catIds);
 }
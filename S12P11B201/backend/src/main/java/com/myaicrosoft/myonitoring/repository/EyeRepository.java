@@ -2,6 +2,8 @@ package com.myaicrosoft.myonitoring.repository;
 
 import com.myaicrosoft.myonitoring.model.entity.Eye;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -13,17 +15,38 @@ import java.util.Optional;
 public interface EyeRepository extends JpaRepository<Eye, Long> {
 
     /**
-     * 특정 고양이의 특정 기간 동안 isEyeDiseased가 true인 가장 최신 데이터를 조회
+     * 특정 고양이의 특정 기간 동안 안구 질환 여부가 일치하는 가장 최신 데이터를 조회 (idx_eye_cat_diseased_time 인덱스 사용)
+     * - 반열린 구간 [start, end) 조건이며, 인덱스를 역순으로 읽어 첫 행에서 멈춥니다.
      *
-     * @param catId       고양이 ID
-     * @param startOfDay  조회 시작 시간
-     * @param endOfDay    조회 종료 시간
+     * @param catId         고양이 ID
      * @param isEyeDiseased 안구 질환 여부 (true)
+     * @param start         조회 시작 시간 (포함)
+     * @param end           조회 종료 시간 (미포함)
      * @return 가장 최신의 안구 질환 데이터 (Optional)
      */
-    Optional<Eye> findTopByCatIdAndCapturedDateTimeBetweenAndIsEyeDiseasedOrderByCapturedDateTimeDesc(
+    Optional<Eye> findTopByCatIdAndIsEyeDiseasedAndCapturedDateTimeGreaterThanEqualAndCapturedDateTimeLessThanOrderByCapturedDateTimeDesc(
             Long catId,
-            LocalDateTime startOfDay,
-            LocalDateTime endOfDay,
-            Boolean isEyeDiseased);
+            Boolean isEyeDiseased,
+            LocalDateTime start,
+            LocalDateTime end);
+
+    /**
+     * 특정 기기/시퀀스 세대의 가장 큰 기기 시퀀스 번호를 조회 (uk_eye_device_seq 인덱스 사용)
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     * @param epoch        시퀀스 번호 세대
+     * @return 가장 큰 시퀀스 번호 (없으면 null)
+     */
+    @Query("SELECT MAX(e.deviceSeq) FROM Eye e WHERE e.deviceSerialNumber = :serialNumber AND e.deviceSeqEpoch = :epoch")
+    Long findMaxDeviceSeq(@Param("serialNumber") String serialNumber, @Param("epoch") Long epoch);
+
+    /**
+     * 특정 기기/시퀀스 세대의 시퀀스 번호가 이미 저장되었는지 확인
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     * @param epoch        시퀀스 번호 세대
+     * @param deviceSeq    기기 시퀀스 번호
+     * @return 저장 여부
+     */
+    boolean existsByDeviceSerialNumberAndDeviceSeqEpochAndDeviceSeq(String serialNumber, Long epoch, Long deviceSeq);
 }
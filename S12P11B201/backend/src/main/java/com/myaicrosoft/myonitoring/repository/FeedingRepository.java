@@ -1,8 +1,10 @@
 package com.myaicrosoft.myonitoring.repository;
 
+import com.myaicrosoft.myonitoring.model.dto.FeedingTimeDto;
 import com.myaicrosoft.myonitoring.model.entity.Feeding;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,23 +16,66 @@ import java.util.List;
 public interface FeedingRepository extends JpaRepository<Feeding, Long> {
 
     /**
-     * 특정 고양이의 특정 주간 급여 데이터를 조회
+     * 특정 기간의 급여 데이터를 시간순으로 조회 (idx_feeding_cat_time 인덱스 사용)
+     * - 컬럼에 함수를 씌우지 않는 반열린 구간 [start, end) 조건이므로 인덱스 범위 검색으로 처리됩니다.
      *
-     * @param catId       고양이 ID
-     * @param startOfWeek 주간 시작 시간
-     * @param endOfWeek   주간 종료 시간
+     * @param catId 고양이 ID
+     * @param start 시작 시간 (포함)
+     * @param end   종료 시간 (미포함)
      * @return 급여 데이터 리스트
      */
-    @Query("SELECT f FROM Feeding f WHERE f.cat.id = :catId AND f.feedingDateTime BETWEEN :startOfWeek AND :endOfWeek")
-    List<Feeding> findByCatIdAndWeek(Long catId, LocalDateTime startOfWeek, LocalDateTime endOfWeek);
+    @Query("SELECT f FROM Feeding f WHERE f.cat.id = :catId AND f.feedingDateTime >= :start AND f.feedingDateTime < :end " +
+            "ORDER BY f.feedingDateTime")
+    List<Feeding> findByCatIdAndPeriod(@Param("catId") Long catId,
+                                       @Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end);
 
     /**
-     * 특정 날짜의 급여 데이터를 조회
+     * 특정 기간의 급여 시각과 설정 급여량만 시간순으로 조회 (idx_feeding_cat_time 인덱스 순서, 엔티티 로딩 없음)
      *
-     * @param catId      고양이 ID
-     * @param startOfDay 시작 시간
-     * @param endOfDay   종료 시간
-     * @return 급여 데이터 리스트
+     * @param catId 고양이 ID
+     * @param start 시작 시간 (포함)
+     * @param end   종료 시간 (포함)
+     * @return 급여 시각 DTO 리스트
+     */
+    @Query("SELECT new com.myaicrosoft.myonitoring.model.dto.FeedingTimeDto(f.feedingDateTime, f.configuredFeedingAmount) " +
+            "FROM Feeding f WHERE f.cat.id = :catId AND f.feedingDateTime BETWEEN :start AND :end " +
+            "ORDER BY f.feedingDateTime")
+    List<FeedingTimeDto> findFeedingTimesByCatIdAndPeriod(@Param("catId") Long catId,
+                                                          @Param("start") LocalDateTime start,
+                                                          @Param("end") LocalDateTime end);
+
+    /**
+     * 특정 기간의 첫 급여 시각을 조회 (idx_feeding_cat_time 인덱스 첫 항목)
+     *
+     * @param catId 고양이 ID
+     * @param start 시작 시간 (포함)
+     * @param end   종료 시간 (포함)
+     * @return 첫 급여 시각 (급여 기록이 없으면 null)
+     */
+    @Query("SELECT MIN(f.feedingDateTime) FROM Feeding f WHERE f.cat.id = :catId " +
+            "AND f.feedingDateTime BETWEEN :start AND :end")
+    LocalDateTime findFirstFeedingTime(@Param("catId") Long catId,
+                                       @Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end);
+
+    /**
+     * 특정 기기/시퀀스 세대의 가장 큰 기기 시퀀스 번호를 조회 (uk_feeding_device_seq 인덱스 사용)
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     * @param epoch        시퀀스 번호 세대
+     * @return 가장 큰 시퀀스 번호 (없으면 null)
+     */
+    @Query("SELECT MAX(f.deviceSeq) FROM Feeding f WHERE f.deviceSerialNumber = :serialNumber AND f.deviceSeqEpoch = :epoch")
+    Long findMaxDeviceSeq(@Param("serialNumber") String serialNumber, @Param("epoch") Long epoch);
+
+    /**
+     * 특정 기기/시퀀스 세대의 시퀀스 번호가 이미 저장되었는지 확인
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     * @param epoch        시퀀스 번호 세대
+     * @param deviceSeq    기기 시퀀스 번호
+     * @return 저장 여부
      */
-    List<Feeding> findByCatIdAndFeedingDateTimeBetween(Long catId, LocalDateTime startOfDay, LocalDateTime endOfDay);
+    boolean existsByDeviceSerialNumberAndDeviceSeqEpochAndDeviceSeq(String serialNumber, Long epoch, Long deviceSeq);
 }
@@ -0,0 +1,74 @@
+package com.myaicrosoft.myonitoring.repository;
+
+import com.myaicrosoft.myonitoring.model.entity.IntakeDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IntakeDailyRollupRepository
+ * - 고양이별 일 단위 섭취/급여 집계를 갱신하고 조회하는 Repository 인터페이스입니다.
+ */
+public interface IntakeDailyRollupRepository extends JpaRepository<IntakeDailyRollup, Long> {
+
+    /**
+     * 일 단위 집계에 증분을 더합니다. (행이 없으면 생성)
+     * - VALUES() 참조는 MySQL 8.0.20부터 사용 중단되었으므로 행 별칭(AS new)으로 새 값을 참조합니다. (MySQL 8.0.19 이상)
+     *
+     * @param catId              고양이 ID
+     * @param rollupDate         집계 날짜
+     * @param intakeAmount       더할 섭취량
+     * @param intakeCount        더할 섭취 횟수
+     * @param intakeDuration     더할 섭취 시간
+     * @param feedingCount       더할 급여 횟수
+     * @param configuredFeeding  더할 설정 급여량
+     * @param actualFeeding      더할 실제 급여량
+     */
+    @Modifying
+    @Query(value = "INSERT INTO intake_daily_rollups (cat_id, rollup_date, intake_amount_sum, intake_count, intake_duration_sum, " +
+            "feeding_count, configured_feeding_sum, actual_feeding_sum) " +
+            "VALUES (:catId, :rollupDate, :intakeAmount, :intakeCount, :intakeDuration, :feedingCount, :configuredFeeding, :actualFeeding) AS new " +
+            "ON DUPLICATE KEY UPDATE intake_amount_sum = intake_amount_sum + new.intake_amount_sum, " +
+            "intake_count = intake_count + new.intake_count, " +
+            "intake_duration_sum = intake_duration_sum + new.intake_duration_sum, " +
+            "feeding_count = feeding_count + new.feeding_count, " +
+            "configured_feeding_sum = configured_feeding_sum + new.configured_feeding_sum, " +
+            "actual_feeding_sum = actual_feeding_sum + new.actual_feeding_sum",
+            nativeQuery = true)
+    void upsertIncrement(@Param("catId") Long catId,
+                         @Param("rollupDate") LocalDate rollupDate,
+                         @Param("intakeAmount") int intakeAmount,
+                         @Param("intakeCount") int intakeCount,
+                         @Param("intakeDuration") int intakeDuration,
+                         @Param("feedingCount") int feedingCount,
+                         @Param("configuredFeeding") int configuredFeeding,
+                         @Param("actualFeeding") int actualFeeding);
+
+    /**
+     * 특정 날짜의 일 단위 집계를 조회합니다. (uk_intake_daily_rollup_cat_date 인덱스 사용)
+     *
+     * @param catId      고양이 ID
+     * @param rollupDate 집계 날짜
+     * @return 일 단위 집계 (Optional)
+     */
+    Optional<IntakeDailyRollup> findByCatIdAndRollupDate(Long catId, LocalDate rollupDate);
+
+    /**
+     * 특정 기간의 일 단위 집계를 날짜순으로 조회합니다.
+     *
+     * @param catId     고양이 ID
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @return 일 단위 집계 리스트
+     */
+    @Query("SELECT r FROM IntakeDailyRollup r WHERE r.cat.id = :catId AND r.rollupDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY r.rollupDate")
+    List<IntakeDailyRollup> findByCatIdAndDateRange(@Param("catId") Long catId,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+}
@@ -1,5 +1,7 @@
 package com.myaicrosoft.myonitoring.repository;
 
+import com.myaicrosoft.myonitoring.model.dto.CatDailyIntakeDto;
+import com.myaicrosoft.myonitoring.model.dto.IntakeTimeDto;
 import com.myaicrosoft.myonitoring.model.entity.Intake;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,14 +18,35 @@ import java.util.List;
 public interface IntakeRepository extends JpaRepository<Intake, Long> {
 
     /**
-     * 특정 기간의 섭취 데이터를 조회
+     * 특정 기간의 섭취 데이터를 시간순으로 조회 (idx_intake_cat_time 인덱스 사용)
+     * - 컬럼에 함수를 씌우지 않는 반열린 구간 [start, end) 조건이므로 인덱스 범위 검색으로 처리됩니다.
      *
      * @param catId 고양이 ID
-     * @param start 시작 시간
-     * @param end   종료 시간
+     * @param start 시작 시간 (포함)
+     * @param end   종료 시간 (미포함)
      * @return 섭취 데이터 리스트
      */
-    List<Intake> findByCatIdAndIntakeDateTimeBetween(Long catId, LocalDateTime start, LocalDateTime end);
+    @Query("SELECT i FROM Intake i WHERE i.cat.id = :catId AND i.intakeDateTime >= :start AND i.intakeDateTime < :end " +
+            "ORDER BY i.intakeDateTime")
+    List<Intake> findByCatIdAndPeriod(@Param("catId") Long catId,
+                                      @Param("start") LocalDateTime start,
+                                      @Param("end") LocalDateTime end);
+
+    /**
+     * 특정 기간의 섭취 시각, 섭취 시간, 섭취량만 시간순으로 조회 (idx_intake_cat_time 인덱스 순서, 엔티티 로딩 없음)
+     * - 일간 상세 조회의 급여 구간 경계(다음 급여 시각 포함)를 그대로 따르도록 종료 시간도 포함합니다.
+     *
+     * @param catId 고양이 ID
+     * @param start 시작 시간 (포함)
+     * @param end   종료 시간 (포함)
+     * @return 섭취 시각 DTO 리스트
+     */
+    @Query("SELECT new com.myaicrosoft.myonitoring.model.dto.IntakeTimeDto(i.intakeDateTime, i.intakeDuration, i.intakeAmount) " +
+            "FROM Intake i WHERE i.cat.id = :catId AND i.intakeDateTime BETWEEN :start AND :end " +
+            "ORDER BY i.intakeDateTime")
+    List<IntakeTimeDto> findIntakeTimesByCatIdAndPeriod(@Param("catId") Long catId,
+                                                        @Param("start") LocalDateTime start,
+                                                        @Param("end") LocalDateTime end);
 
     /**
      * 특정 날짜의 섭취 데이터를 조회
@@ -32,19 +55,58 @@ public interface IntakeRepository extends JpaRepository<Intake, Long> {
      * @param date  조회할 날짜
      * @return 섭취 데이터 리스트
      */
-    @Query("SELECT i FROM Intake i WHERE i.cat.id = :catId AND DATE(i.intakeDateTime) = :date")
-    List<Intake> findByCatIdAndDate(@Param("catId") Long catId, @Param("date") LocalDate date);
+    default List<Intake> findByCatIdAndDate(Long catId, LocalDate date) {
+        return findByCatIdAndPeriod(catId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
 
     /**
      * 특정 기간의 섭취 데이터를 날짜 범위로 조회
      *
      * @param catId      고양이 ID
-     * @param startDate  시작 날짜
-     * @param endDate    종료 날짜
+     * @param startDate  시작 날짜 (포함)
+     * @param endDate    종료 날짜 (포함)
      * @return 섭취 데이터 리스트
      */
-    @Query("SELECT i FROM Intake i WHERE i.cat.id = :catId AND DATE(i.intakeDateTime) BETWEEN :startDate AND :endDate")
-    List<Intake> findByCatIdAndDateRange(@Param("catId") Long catId,
-                                         @Param("startDate") LocalDate startDate,
-                                         @Param("endDate") LocalDate endDate);
+    default List<Intake> findByCatIdAndDateRange(Long catId, LocalDate startDate, LocalDate endDate) {
+        return findByCatIdAndPeriod(catId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * 고양이 ID 구간에 속한 고양이별 기간 내 총 섭취량을 한 번의 집계 쿼리로 조회
+     * - 섭취 기록이 없는 고양이는 결과에 포함되지 않습니다.
+     * - 고양이마다 idx_intake_cat_time 인덱스의 해당 기간만 읽습니다.
+     *
+     * @param start   시작 시간 (포함)
+     * @param end     종료 시간 (미포함)
+     * @param startId 시작 고양이 ID (포함)
+     * @param endId   끝 고양이 ID (포함)
+     * @return 고양이별 총 섭취량 DTO 리스트
+     */
+    @Query("SELECT new com.myaicrosoft.myonitoring.model.dto.CatDailyIntakeDto(i.cat.id, SUM(i.intakeAmount)) " +
+            "FROM Intake i WHERE i.intakeDateTime >= :start AND i.intakeDateTime < :end " +
+            "AND i.cat.id BETWEEN :startId AND :endId GROUP BY i.cat.id")
+    List<CatDailyIntakeDto> sumIntakeAmountByCat(@Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end,
+                                                 @Param("startId") Long startId,
+                                                 @Param("endId") Long endId);
+
+    /**
+     * 특정 기기/시퀀스 세대의 가장 큰 기기 시퀀스 번호를 조회 (uk_intake_device_seq 인덱스 사용)
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     * @param epoch        시퀀스 번호 세대
+     * @return 가장 큰 시퀀스 번호 (없으면 null)
+     */
+    @Query("SELECT MAX(i.deviceSeq) FROM Intake i WHERE i.deviceSerialNumber = :serialNumber AND i.deviceSeqEpoch = :epoch")
+    Long findMaxDeviceSeq(@Param("serialNumber") String serialNumber, @Param("epoch") Long epoch);
+
+    /**
+     * 특정 기기/시퀀스 세대의 시퀀스 번호가 이미 저장되었는지 확인
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     * @param epoch        시퀀스 번호 세대
+     * @param deviceSeq    기기 시퀀스 번호
+     * @return 저장 여부
+     */
+    boolean existsByDeviceSerialNumberAndDeviceSeqEpochAndDeviceSeq(String serialNumber, Long epoch, Long deviceSeq);
 }
@@ -0,0 +1,61 @@
+package com.myaicrosoft.myonitoring.repository;
+
+import com.myaicrosoft.myonitoring.model.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * JobLockRepository
+ * - 스케줄링 작업 잠금을 가져가고 연장/반환하는 Repository 인터페이스입니다.
+ */
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * 작업 잠금 행이 없으면 만료된 상태로 생성합니다. (이미 있으면 아무것도 바꾸지 않음)
+     *
+     * @param name        작업 이름
+     * @param lockedUntil 만료 시각 (과거 시각)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_locks (name, locked_until) VALUES (:name, :lockedUntil) " +
+            "ON DUPLICATE KEY UPDATE name = name", nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 만료된 잠금을 가져갑니다.
+     *
+     * @param name        작업 이름
+     * @param lockedBy    인스턴스 ID
+     * @param now         현재 시각
+     * @param lockedUntil 새 만료 시각
+     * @return 잠금을 가져갔으면 1, 다른 인스턴스가 가지고 있으면 0
+     */
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedBy = :lockedBy, l.lockedAt = :now, l.lockedUntil = :lockedUntil " +
+            "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int tryAcquire(@Param("name") String name,
+                   @Param("lockedBy") String lockedBy,
+                   @Param("now") LocalDateTime now,
+                   @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 가지고 있는 잠금의 만료 시각을 바꿉니다. (연장 또는 반환)
+     *
+     * @param name        작업 이름
+     * @param lockedBy    인스턴스 ID
+     * @param lockedAt    잠금을 가져간 시각
+     * @param lockedUntil 새 만료 시각
+     * @return 잠금을 아직 가지고 있으면 1, 만료되어 다른 인스턴스가 가져갔으면 0
+     */
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :lockedUntil " +
+            "WHERE l.name = :name AND l.lockedBy = :lockedBy AND l.lockedAt = :lockedAt")
+    int updateLockedUntil(@Param("name") String name,
+                          @Param("lockedBy") String lockedBy,
+                          @Param("lockedAt") LocalDateTime lockedAt,
+                          @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -0,0 +1,30 @@
+package com.myaicrosoft.myonitoring.repository;
+
+import com.myaicrosoft.myonitoring.model.entity.StatisticsJobChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * StatisticsJobChunkRepository
+ * - 일간 통계 생성 작업의 청크 진행 상태를 저장하고 조회하는 Repository 인터페이스입니다.
+ */
+public interface StatisticsJobChunkRepository extends JpaRepository<StatisticsJobChunk, Long> {
+
+    /**
+     * 특정 날짜의 청크가 등록되어 있는지 확인합니다.
+     *
+     * @param statDate 통계 날짜
+     * @return 등록 여부
+     */
+    boolean existsByStatDate(LocalDate statDate);
+
+    /**
+     * 특정 상태의 청크를 날짜, 구간 순으로 조회합니다.
+     *
+     * @param status 청크 상태
+     * @return 청크 리스트
+     */
+    List<StatisticsJobChunk> findByStatusOrderByStatDateAscRangeStartAsc(StatisticsJobChunk.Status status);
+}
@@ -2,10 +2,12 @@ package com.myaicrosoft.myonitoring.repository;
 
 import com.myaicrosoft.myonitoring.model.entity.Statistics;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -16,7 +18,7 @@ import java.util.List;
 public interface StatisticsRepository extends JpaRepository<Statistics, Long> {
 
     /**
-     * 특정 고양이의 특정 날짜 이전 최대 2일간의 통계 데이터를 조회합니다.
+     * 특정 고양이의 특정 날짜 이전 최대 2일간의 통계 데이터를 조회합니다. (uk_stat_cat_date 인덱스 사용)
      *
      * @param catId      고양이 ID
      * @param startDate  시작 날짜 (포함)
@@ -37,6 +39,17 @@ public interface StatisticsRepository extends JpaRepository<Statistics, Long> {
      */
     Optional<Statistics> findByCatIdAndStatDate(@Param("catId") Long catId, @Param("statDate") LocalDate statDate);
 
+    /**
+     * 특정 고양이의 여러 날짜 통계 데이터를 한 번에 조회합니다.
+     *
+     * @param catId     고양이 ID
+     * @param statDates 통계 날짜 목록
+     * @return 해당 날짜들의 통계 데이터 리스트
+     */
+    @Query("SELECT s FROM Statistics s WHERE s.cat.id = :catId AND s.statDate IN :statDates")
+    List<Statistics> findByCatIdAndStatDateIn(@Param("catId") Long catId,
+                                              @Param("statDates") List<LocalDate> statDates);
+
     /**
      * 특정 고양이의 특정 기간 동안의 통계 데이터를 조회합니다.
      *
@@ -50,6 +63,55 @@ public interface StatisticsRepository extends JpaRepository<Statistics, Long> {
                                                            @Param("startDate") LocalDate startDate,
                                                            @Param("endDate") LocalDate endDate);
 
+    /**
+     * 여러 고양이의 여러 날짜 통계 데이터를 한 번에 조회합니다. (uk_stat_cat_date 인덱스 사용)
+     *
+     * @param catIds    고양이 ID 목록
+     * @param statDates 통계 날짜 목록
+     * @return 해당 고양이들의 해당 날짜 통계 데이터 리스트
+     */
+    @Query("SELECT s FROM Statistics s WHERE s.cat.id IN :catIds AND s.statDate IN :statDates")
+    List<Statistics> findByCatIdInAndStatDateIn(@Param("catIds") Collection<Long> catIds,
+                                                @Param("statDates") Collection<LocalDate> statDates);
+
+    /**
+     * 특정 날짜의 통계를 고양이 ID 구간 안에서 삭제합니다. (과거 통계 재계산 시 사용)
+     *
+     * @param statDate 통계 날짜
+     * @param startId  시작 고양이 ID (포함)
+     * @param endId    끝 고양이 ID (포함)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Statistics s WHERE s.statDate = :statDate AND s.cat.id BETWEEN :startId AND :endId")
+    int deleteByStatDateAndCatIdBetween(@Param("statDate") LocalDate statDate,
+                                        @Param("startId") Long startId,
+                                        @Param("endId") Long endId);
+
+    /**
+     * 특정 날짜의 통계를 지정한 고양이들에 대해서만 삭제합니다. (과거 통계 재계산 시 사용)
+     *
+     * @param statDate 통계 날짜
+     * @param catIds   고양이 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Statistics s WHERE s.statDate = :statDate AND s.cat.id IN :catIds")
+    int deleteByStatDateAndCatIdIn(@Param("statDate") LocalDate statDate,
+                                   @Param("catIds") Collection<Long> catIds);
+
+    /**
+     * 특정 날짜에 같은 증감 상태가 minDays일 이상 이어진 통계를 고양이, 기기, 소유자와 함께 조회합니다.
+     * (섭취량 이상 알림 대상 조회, idx_stat_date_change_days 인덱스 사용)
+     *
+     * @param statDate 통계 날짜
+     * @param minDays  최소 연속 일수
+     * @return 통계 데이터 리스트
+     */
+    @Query("SELECT s FROM Statistics s JOIN FETCH s.cat c JOIN FETCH c.device d JOIN FETCH d.user " +
+            "WHERE s.statDate = :statDate AND s.changeDays >= :minDays")
+    List<Statistics> findAlertTargets(@Param("statDate") LocalDate statDate, @Param("minDays") int minDays);
+
     /**
      * 특정 날짜의 모든 통계 데이터를 조회합니다.
      *
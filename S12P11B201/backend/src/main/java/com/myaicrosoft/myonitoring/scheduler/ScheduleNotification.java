@@ -1,44 +1,53 @@
 package com.myaicrosoft.myonitoring.scheduler;
 
 import com.myaicrosoft.myonitoring.model.entity.Cat;
-import com.myaicrosoft.myonitoring.model.entity.IntakeStatistics;
 import com.myaicrosoft.myonitoring.model.entity.NotificationCategory;
+import com.myaicrosoft.myonitoring.model.entity.Statistics;
 import com.myaicrosoft.myonitoring.repository.StatisticsRepository;
 import com.myaicrosoft.myonitoring.repository.NotificationLogRepository;
 import com.myaicrosoft.myonitoring.service.ScheduleNotificationService;
-import com.myaicrosoft.myonitoring.repository.IntakeStatisticsRepository;
 import com.myaicrosoft.myonitoring.service.FcmTokenService;
+import com.myaicrosoft.myonitoring.service.JobLockService;
 import com.myaicrosoft.myonitoring.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * ScheduleNotification
  * - 이상 알림 데이터를 Firebase로 전달합니다.
+ * - 백엔드를 여러 인스턴스로 실행해도 알림이 중복 전송되지 않도록 작업 잠금을 가진 인스턴스에서만 실행합니다.
  */
 @Component // Spring Bean으로 등록
 @RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
 @Slf4j
 public class ScheduleNotification {
 
+    // 작업이 빨리 끝나도 이 시간 동안은 잠금을 유지 (인스턴스 간 cron 실행 시각 차이로 인한 재실행 방지)
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
     private final NotificationLogRepository notificationLogRepository; // 알림 로그 저장 Repository
     private final ScheduleNotificationService scheduleNotificationService; // Firebase 알림 전송 서비스
-    private final IntakeStatisticsRepository intakeStatisticsRepository;
+    private final StatisticsRepository statisticsRepository; // 일간 통계 조회 Repository
     private final FcmTokenService fcmTokenService;
     private final NotificationService notificationService;
+    private final JobLockService jobLockService;
 
     /**
      * 매일 자정에 실행되는 스케줄링 작업 (의료 일정 알림 예약)
      */
     @Scheduled(cron = "0 18 21 * * *", zone = "Asia/Seoul") // 매일 자정 (KST)
     public void scheduleDailyMedicalAlerts() {
-        log.info("🔔 의료 일정 알림 예약 시작...");
-        scheduleNotificationService.scheduleMedicalAlerts();
-        log.info("✅ 의료 일정 알림 예약 완료.");
+        jobLockService.runIfAvailable("medical-alerts", LOCK_AT_LEAST_FOR, () -> {
+            log.info("🔔 의료 일정 알림 예약 시작...");
+            scheduleNotificationService.scheduleMedicalAlerts();
+            log.info("✅ 의료 일정 알림 예약 완료.");
+        });
     }
 
     /**
@@ -46,8 +55,16 @@ public class ScheduleNotification {
      */
     @Scheduled(cron = "0 0 10 * * *", zone = "Asia/Seoul")
     public void checkIntakeAnomalies() {
+        jobLockService.runIfAvailable("intake-anomaly-alerts", LOCK_AT_LEAST_FOR, this::sendIntakeAnomalyAlerts);
+    }
+
+    /**
+     * 전날 통계의 changeDays가 2일 이상인 고양이의 보호자에게 섭취량 이상 알림을 보내는 메서드
+     * - changeStatus는 고양이마다 선택한 섭취량 이상 감지기가 판정한 값입니다. (StatisticsService)
+     */
+    private void sendIntakeAnomalyAlerts() {
         try {
-            List<IntakeStatistics> statistics = intakeStatisticsRepository.findByChangeDaysGreaterThanEqual(2);
+            List<Statistics> statistics = statisticsRepository.findAlertTargets(LocalDate.now().minusDays(1), 2);
             log.info("섭취량 이상 데이터 조회 완료. 데이터 수: {}", statistics.size());
 
             statistics.forEach(stat -> {
@@ -0,0 +1,71 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.model.dto.CatBindingDto;
+import com.myaicrosoft.myonitoring.repository.CatRepository;
+import com.myaicrosoft.myonitoring.util.BoundedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 기기 시리얼 넘버 → 고양이/소유자 정보 캐시 서비스 클래스
+ * - 데이터 수집 시마다 실행되던 시리얼 넘버 조인 조회를 메모리 조회로 대체합니다.
+ * - 기기/고양이 생성, 수정, 삭제 시 해당 시리얼 넘버를 무효화하며,
+ *   다른 인스턴스에서 변경된 경우를 대비해 만료 시간을 둡니다.
+ */
+@Slf4j
+@Service
+public class CatBindingCache {
+
+    private final CatRepository catRepository;
+    private final BoundedCache<String, CatBindingDto> cache;
+
+    public CatBindingCache(CatRepository catRepository,
+                           @Value("${ingest.binding-cache.max-size:10000}") int maxSize,
+                           @Value("${ingest.binding-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.catRepository = catRepository;
+        this.cache = new BoundedCache<>(maxSize, Duration.ofMinutes(ttlMinutes).toNanos());
+    }
+
+    /**
+     * 시리얼 넘버에 연결된 고양이/소유자 정보를 조회하는 메서드 (캐시 미스 시 DB 조회)
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     * @return 고양이/소유자 정보 DTO
+     */
+    public CatBindingDto resolve(String serialNumber) {
+        CatBindingDto binding = cache.get(serialNumber,
+                key -> catRepository.findBindingByDeviceSerialNumber(key).orElse(null));
+        if (binding == null) {
+            throw new IllegalArgumentException("해당 시리얼 넘버에 해당하는 고양이를 찾을 수 없습니다. 시리얼 넘버: " + serialNumber);
+        }
+        return binding;
+    }
+
+    /**
+     * 시리얼 넘버를 캐시에서 무효화하는 메서드
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화해, 커밋 전 값이 다시 캐시되는 것을 막습니다.
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     */
+    public void evict(String serialNumber) {
+        if (serialNumber == null) {
+            return;
+        }
+        cache.invalidate(serialNumber);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(serialNumber);
+                }
+            });
+        }
+        log.debug("시리얼 넘버 캐시 무효화 - 시리얼 넘버: {}", serialNumber);
+    }
+}
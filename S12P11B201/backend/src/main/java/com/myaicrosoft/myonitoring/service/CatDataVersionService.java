@@ -0,0 +1,103 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.event.CatDataChangedEvent;
+import com.myaicrosoft.myonitoring.event.StatisticsUpdatedEvent;
+import com.myaicrosoft.myonitoring.repository.CatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 고양이별 대시보드 데이터 버전 서비스 클래스
+ * - 메인 페이지, 섭취량, 안구 질환, 알림 로그 응답에 쓰이는 데이터가 바뀔 때마다 cats.data_version을 1씩 올리고,
+ *   조회 API는 이 버전으로 만든 ETag가 If-None-Match와 같으면 서비스 조회 없이 304 Not Modified를 반환합니다.
+ * - 버전은 변경 이벤트를 받아 커밋 직전에 같은 트랜잭션에서 올리므로, 여러 인스턴스로 실행해도 모든 인스턴스가 같은 값을 봅니다.
+ */
+@Slf4j
+@Service
+public class CatDataVersionService {
+
+    private static final String VERSION_ATTRIBUTE_PREFIX = CatDataVersionService.class.getName() + ".";
+    private static final int MAX_IDS_PER_UPDATE = 1000; // 한 번의 UPDATE에 넣는 고양이 ID 수
+
+    private final CatRepository catRepository;
+    private final String formatVersion;
+
+    public CatDataVersionService(CatRepository catRepository,
+                                 @Value("${dashboard.etag.format-version:1}") String formatVersion) {
+        this.catRepository = catRepository;
+        this.formatVersion = formatVersion;
+    }
+
+    /**
+     * 고양이의 데이터 버전을 조회하는 메서드
+     * - 요청 안에서는 처음 조회한 값을 재사용하므로, ETag 확인과 DashboardCache 확인이 한 번의 PK 조회를 공유합니다.
+     *
+     * @param catId 고양이 ID
+     * @return 데이터 버전 (고양이가 없으면 null)
+     */
+    public Long getVersion(Long catId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = VERSION_ATTRIBUTE_PREFIX + catId;
+        if (attributes != null) {
+            Object version = attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (version != null) {
+                return (Long) version;
+            }
+        }
+        Long version = catRepository.findDataVersionById(catId).orElse(null);
+        if (attributes != null && version != null) {
+            attributes.setAttribute(attributeName, version, RequestAttributes.SCOPE_REQUEST);
+        }
+        return version;
+    }
+
+    /**
+     * 고양이의 대시보드 응답 ETag를 만드는 메서드
+     * - 응답 형식 버전, 고양이 ID, 데이터 버전으로 만든 약한(weak) ETag입니다. (JSON/MessagePack 인코딩과 관계없이 같은 값)
+     *
+     * @param catId 고양이 ID
+     * @return ETag (고양이가 없으면 null)
+     */
+    public String getETag(Long catId) {
+        Long version = getVersion(catId);
+        if (version == null) {
+            return null;
+        }
+        return "W/\"" + formatVersion + "-" + catId + "-" + version + "\"";
+    }
+
+    /**
+     * 기록, 알림 로그, 고양이 정보가 바뀐 고양이의 데이터 버전을 올리는 메서드 (커밋 직전, 같은 트랜잭션)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCatDataChanged(CatDataChangedEvent event) {
+        incrementVersions(Set.of(event.getCatId()));
+    }
+
+    /**
+     * 통계가 바뀐 고양이들의 데이터 버전을 올리는 메서드 (메인 페이지의 섭취량 이상 플래그, 커밋 직전)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onStatisticsUpdated(StatisticsUpdatedEvent event) {
+        incrementVersions(event.getCatIds());
+    }
+
+    private void incrementVersions(Collection<Long> catIds) {
+        List<Long> ids = new ArrayList<>(catIds);
+        ids.sort(null); // 여러 트랜잭션이 같은 고양이 행을 잠글 때 항상 같은 순서로 잠금
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+            catRepository.incrementDataVersion(ids.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, ids.size())));
+        }
+        log.debug("고양이 데이터 버전 증가 - 고양이 수: {}", ids.size());
+    }
+}
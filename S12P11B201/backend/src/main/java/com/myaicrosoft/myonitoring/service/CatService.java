@@ -1,5 +1,6 @@
 package com.myaicrosoft.myonitoring.service;
 
+import com.myaicrosoft.myonitoring.event.CatDataChangedEvent;
 import com.myaicrosoft.myonitoring.model.dto.CatCreateRequest;
 import com.myaicrosoft.myonitoring.model.dto.CatDetailResponseDto;
 import com.myaicrosoft.myonitoring.model.dto.CatResponseDto;
@@ -11,10 +12,12 @@ import com.myaicrosoft.myonitoring.model.entity.Cat;
 import com.myaicrosoft.myonitoring.model.entity.Device;
 import com.myaicrosoft.myonitoring.repository.CatRepository;
 import com.myaicrosoft.myonitoring.repository.DeviceRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +30,8 @@ public class CatService {
     private final CatRepository catRepository;
     private final DeviceRepository deviceRepository;
     private final SecurityUtil securityUtil;
+    private final CatBindingCache catBindingCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 고양이를 생성하고 저장하는 로직
@@ -59,6 +64,7 @@ public class CatService {
                 .profileImageUrl(request.getProfileImageUrl())
                 .build();
 
+        catBindingCache.evict(device.getSerialNumber());
         return catRepository.save(cat);
     }
 
@@ -104,7 +110,8 @@ public class CatService {
                 cat.getAge(),
                 cat.getWeight(),
                 cat.getCharacteristics(),
-                cat.getProfileImageUrl()
+                cat.getProfileImageUrl(),
+                cat.getAnomalyDetector()
         );
     }
 
@@ -137,9 +144,16 @@ public class CatService {
         // 3. 선택 필드 업데이트 (null 허용)
         existingCat.setCharacteristics(request.getCharacteristics());     // null 가능
         existingCat.setProfileImageUrl(request.getProfileImageUrl());     // null 가능
+        if (request.getAnomalyDetector() != null) {
+            existingCat.setAnomalyDetector(request.getAnomalyDetector()); // null이면 기존 감지 방식 유지 (다음 통계부터 적용)
+        }
 
         // 4. 저장 후 DTO 반환
         Cat updatedCat = catRepository.save(existingCat);
+        if (updatedCat.getDevice() != null) {
+            catBindingCache.evict(updatedCat.getDevice().getSerialNumber()); // 알림에 쓰이는 이름 갱신
+        }
+        eventPublisher.publishEvent(new CatDataChangedEvent(catId, CatDataChangedEvent.DataType.PROFILE, Set.of())); // 메인 페이지 이미지 갱신
 
         return new CatDetailResponseDto(
                 updatedCat.getId(),
@@ -151,7 +165,8 @@ public class CatService {
                 updatedCat.getAge(),
                 updatedCat.getWeight(),
                 updatedCat.getCharacteristics(),
-                updatedCat.getProfileImageUrl()
+                updatedCat.getProfileImageUrl(),
+                updatedCat.getAnomalyDetector()
         );
     }
 
@@ -177,9 +192,11 @@ public class CatService {
         // 연관된 Device와의 관계 해제
         if (device != null) {
             device.setCat(null);
+            catBindingCache.evict(device.getSerialNumber());
         }
 
         catRepository.delete(cat);
+        eventPublisher.publishEvent(new CatDataChangedEvent(catId, CatDataChangedEvent.DataType.PROFILE, Set.of()));
     }
 
 }
@@ -0,0 +1,212 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.event.CatDataChangedEvent;
+import com.myaicrosoft.myonitoring.event.StatisticsUpdatedEvent;
+import com.myaicrosoft.myonitoring.model.dto.DashboardCacheMetricsDto;
+import com.myaicrosoft.myonitoring.util.BoundedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 고양이별 대시보드 조회 결과 캐시 서비스 클래스
+ * - 앱이 반복해서 조회하는 메인 페이지, 일간/주간 누적 섭취량, 통계 응답을 (고양이, 화면, 날짜) 키로 캐시합니다.
+ * - 응답은 데이터 수집, 통계 생성, 의료 기록/고양이 정보 변경 때만 바뀌므로, 커밋 이후 발행되는 이벤트로
+ *   영향을 받는 키만 정확히 무효화합니다.
+ * - 지난 날짜의 응답은 바뀌지 않으므로 오래 캐시하고, 오늘 이후 날짜는 짧게 캐시합니다.
+ * - 항목마다 만들 때의 고양이 데이터 버전(CatDataVersionService)을 저장하고, 조회 시 버전이 다르면 다시 만듭니다.
+ *   이벤트 무효화는 인스턴스 안에서만 일어나지만, 버전은 DB에 있으므로 다른 인스턴스의 변경도 바로 반영되고,
+ *   응답이 그 응답의 ETag 버전보다 오래된 데이터로 만들어지지 않습니다.
+ */
+@Slf4j
+@Service
+public class DashboardCache {
+
+    private final CatDataVersionService catDataVersionService;
+    private final BoundedCache<Key, VersionedValue> cache;
+    private final long currentTtlNanos;
+    private final long pastTtlNanos;
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public DashboardCache(CatDataVersionService catDataVersionService,
+                          @Value("${dashboard.cache.max-size:50000}") int maxSize,
+                          @Value("${dashboard.cache.current-ttl-seconds:60}") long currentTtlSeconds,
+                          @Value("${dashboard.cache.past-ttl-hours:24}") long pastTtlHours) {
+        this.catDataVersionService = catDataVersionService;
+        this.currentTtlNanos = Duration.ofSeconds(currentTtlSeconds).toNanos();
+        this.pastTtlNanos = Duration.ofHours(pastTtlHours).toNanos();
+        this.cache = new BoundedCache<>(maxSize, currentTtlNanos);
+    }
+
+    /**
+     * 캐시된 응답을 조회하고, 없으면 loader로 만들어 캐시하는 메서드
+     * - loader가 예외를 던지면(고양이/통계 없음 등) 캐시하지 않고 그대로 전달합니다.
+     * - 데이터 버전을 loader보다 먼저 조회하므로, 저장되는 응답은 항상 저장된 버전 이후의 데이터입니다.
+     *
+     * @param catId  고양이 ID
+     * @param view   조회 화면
+     * @param date   조회 날짜 (주간 누적은 주 시작 날짜)
+     * @param loader 캐시 미스 시 응답을 만드는 함수
+     * @return 캐시된 응답 또는 새로 만든 응답
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long catId, View view, LocalDate date, Supplier<T> loader) {
+        LocalDate lastDataDate = view == View.WEEKLY_INTAKE ? date.plusDays(6) : date;
+        long ttlNanos = lastDataDate.isBefore(LocalDate.now()) ? pastTtlNanos : currentTtlNanos;
+        Long version = catDataVersionService.getVersion(catId);
+        Key key = new Key(catId, view, date);
+        VersionedValue cached = cache.get(key, k -> load(loader, version), ttlNanos);
+        if (cached != null && !Objects.equals(cached.version, version)) {
+            // 다른 인스턴스에서 데이터가 바뀐 경우 (이 인스턴스에는 무효화 이벤트가 오지 않음)
+            cache.invalidate(key);
+            invalidationCount.increment();
+            cached = cache.get(key, k -> load(loader, version), ttlNanos);
+        }
+        return cached == null ? null : (T) cached.value;
+    }
+
+    private static VersionedValue load(Supplier<?> loader, Long version) {
+        Object value = loader.get();
+        return value == null ? null : new VersionedValue(value, version);
+    }
+
+    /**
+     * 기록이 변경된 날짜를 보여주는 항목을 무효화하는 메서드
+     * - 섭취: 그날의 메인 페이지/일간 누적과, 그날을 포함하는 주간 누적(주 시작 날짜 7개)
+     * - 급여: 그날을 포함하는 주간 누적
+     * - 안구/의료: 그날의 메인 페이지
+     * - 고양이 정보: 고양이의 모든 항목
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatDataChanged(CatDataChangedEvent event) {
+        Long catId = event.getCatId();
+        switch (event.getDataType()) {
+            case INTAKE:
+                for (LocalDate date : event.getDates()) {
+                    invalidate(catId, View.MAIN, date);
+                    invalidate(catId, View.DAILY_INTAKE, date);
+                    invalidateWeeksContaining(catId, date);
+                }
+                break;
+            case FEEDING:
+                event.getDates().forEach(date -> invalidateWeeksContaining(catId, date));
+                break;
+            case EYE:
+            case MEDICAL:
+                event.getDates().forEach(date -> invalidate(catId, View.MAIN, date));
+                break;
+            case PROFILE:
+                cache.invalidateIf(key -> key.catId.equals(catId));
+                invalidationCount.increment();
+                break;
+            default:
+                break;
+        }
+        log.debug("대시보드 캐시 무효화 - 고양이 ID: {}, 데이터: {}, 날짜: {}", catId, event.getDataType(), event.getDates());
+    }
+
+    /**
+     * 통계가 바뀐 고양이의 다음 날 메인 페이지(섭취량 이상 플래그)와 통계 항목을 무효화하는 메서드
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatisticsUpdated(StatisticsUpdatedEvent event) {
+        LocalDate shownDate = event.getStatDate().plusDays(1); // 통계는 다음 날 화면에서 "전날 통계"로 조회됨
+        for (Long catId : event.getCatIds()) {
+            invalidate(catId, View.MAIN, shownDate);
+            invalidate(catId, View.STATISTICS, shownDate);
+        }
+    }
+
+    /**
+     * 캐시 메트릭을 반환하는 메서드
+     *
+     * @return 항목 수, 적중/미스/제거/무효화 수 (DTO)
+     */
+    public DashboardCacheMetricsDto getMetrics() {
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+        long requests = hits + misses;
+        return new DashboardCacheMetricsDto(
+                cache.size(),
+                cache.getMaxSize(),
+                hits,
+                misses,
+                requests == 0 ? 0 : (double) hits / requests,
+                cache.getEvictionCount(),
+                invalidationCount.sum());
+    }
+
+    private void invalidateWeeksContaining(Long catId, LocalDate date) {
+        for (int i = 0; i < 7; i++) {
+            invalidate(catId, View.WEEKLY_INTAKE, date.minusDays(i)); // 주 시작 날짜는 클라이언트가 정하므로 7개 모두
+        }
+    }
+
+    private void invalidate(Long catId, View view, LocalDate date) {
+        cache.invalidate(new Key(catId, view, date));
+        invalidationCount.increment();
+    }
+
+    /**
+     * 캐시하는 조회 화면
+     */
+    public enum View {
+        MAIN,           // 메인 페이지 (/main/{catPk})
+        DAILY_INTAKE,   // 일간 누적 섭취량 (/intake/{catPk}/day/cum)
+        WEEKLY_INTAKE,  // 주간 누적 섭취량/급여량 (/intake/{catPk}/week/cum)
+        STATISTICS      // 통계 (/stats/{catPk})
+    }
+
+    /**
+     * 캐시된 응답과 응답을 만들 때의 고양이 데이터 버전
+     */
+    private static final class VersionedValue {
+        private final Object value;
+        private final Long version;
+
+        private VersionedValue(Object value, Long version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+
+    /**
+     * 캐시 키 (고양이 ID + 조회 화면 + 날짜)
+     */
+    private static final class Key {
+        private final Long catId;
+        private final View view;
+        private final LocalDate date;
+
+        private Key(Long catId, View view, LocalDate date) {
+            this.catId = catId;
+            this.view = view;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return catId.equals(other.catId) && view == other.view && date.equals(other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(catId, view, date);
+        }
+    }
+}
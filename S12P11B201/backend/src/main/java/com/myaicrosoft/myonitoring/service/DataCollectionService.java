@@ -9,9 +9,15 @@ import com.myaicrosoft.myonitoring.repository.EyeRepository;
 import com.myaicrosoft.myonitoring.repository.FeedingRepository;
 import com.myaicrosoft.myonitoring.repository.IntakeRepository;
 import lombok.RequiredArgsConstructor;
+import com.myaicrosoft.myonitoring.model.dto.CatBindingDto;
+import com.myaicrosoft.myonitoring.model.dto.DataCollectionBatchResponse;
 import com.myaicrosoft.myonitoring.model.dto.DataCollectionRequest;
 import com.myaicrosoft.myonitoring.model.entity.*;
 import com.myaicrosoft.myonitoring.repository.*;
+import com.myaicrosoft.myonitoring.event.CatDataChangedEvent;
+import com.myaicrosoft.myonitoring.event.EyeScanRecordedEvent;
+import com.myaicrosoft.myonitoring.event.FeedingRecordedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.google.firebase.messaging.FirebaseMessaging;
@@ -19,8 +25,12 @@ import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -35,90 +45,299 @@ public class DataCollectionService {
     private final FeedingRepository feedingRepository;
     private final IntakeRepository intakeRepository;
     private final EyeRepository eyeRepository;
-    private final FcmTokenService fcmTokenService;
     private final NotificationLogRepository notificationLogRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatBindingCache catBindingCache;
+    private final DeviceSequenceTracker deviceSequenceTracker;
+    private final IntakeRollupService intakeRollupService;
 
     /**
      * 수집된 데이터를 저장하는 메서드
      *
      * @param request 수집된 데이터 요청 객체 (DTO)
+     * @return 저장했으면 true, 이미 수집된 시퀀스 번호라 무시했으면 false
      */
     @Transactional
-    public void saveData(DataCollectionRequest request) {
-        // 시리얼 넘버를 통해 고양이 조회
-        Cat cat = catRepository.findByDeviceSerialNumber(request.getSerialNumber())
-                .orElseThrow(() -> new IllegalArgumentException("해당 시리얼 넘버에 해당하는 고양이를 찾을 수 없습니다. 시리얼 넘버: " + request.getSerialNumber()));
+    public boolean saveData(DataCollectionRequest request) {
+        String type = validateRecord(request);
+
+        // 시리얼 넘버를 통해 고양이 조회 (캐시 적중 시 DB 조회 없음)
+        CatBindingDto binding = catBindingCache.resolve(request.getSerialNumber());
+        Cat cat = catRepository.getReferenceById(binding.getCatId());
+
+        // 재전송된 데이터는 저장하지 않음
+        if (!claimSequence(type, request)) {
+            return false;
+        }
 
         // 데이터 타입에 따라 처리 분기
-        switch (request.getType().toLowerCase()) {
+        switch (type) {
             case "feeding":
-                saveFeedingData(cat, request);
+                saveFeedingData(binding, cat, request);
                 break;
             case "intake":
-                saveIntakeData(cat, request);
+                saveIntakeData(binding, cat, request);
                 break;
             case "eye":
-                saveEyeData(cat, request);
+                saveEyeData(binding, cat, request);
                 break;
             default:
                 throw new IllegalArgumentException("유효하지 않은 데이터 타입입니다: " + request.getType());
         }
+        return true;
+    }
+
+    /**
+     * 하나의 기기에서 수집된 여러 건의 데이터를 한 번에 저장하는 메서드
+     * - 시리얼 넘버 조회는 배치당 한 번만 수행하고, 타입별로 모아서 하나의 트랜잭션에서 저장합니다.
+     * - 유효하지 않은 레코드는 저장하지 않고 거부 사유와 함께 결과에 포함합니다.
+     * - 이미 수집된 시퀀스 번호의 레코드는 저장하지 않고 DUPLICATE로 표시합니다.
+     *
+     * @param requests 수집된 데이터 요청 객체 목록 (모두 같은 시리얼 넘버)
+     * @return 레코드별 처리 결과
+     */
+    @Transactional
+    public DataCollectionBatchResponse saveBatch(List<DataCollectionRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("배치 데이터가 비어 있습니다.");
+        }
+
+        // 배치의 첫 레코드 기준으로 고양이 한 번만 조회
+        String serialNumber = requests.get(0).getSerialNumber();
+        CatBindingDto binding = catBindingCache.resolve(serialNumber);
+        Cat cat = catRepository.getReferenceById(binding.getCatId());
+
+        List<Feeding> feedings = new ArrayList<>();
+        List<Intake> intakes = new ArrayList<>();
+        List<Eye> eyes = new ArrayList<>();
+        List<DataCollectionRequest> eyeRequests = new ArrayList<>();
+        List<DataCollectionBatchResponse.RecordResult> results = new ArrayList<>(requests.size());
+        int accepted = 0;
+        int duplicates = 0;
+
+        for (int i = 0; i < requests.size(); i++) {
+            DataCollectionRequest request = requests.get(i);
+            try {
+                if (!serialNumber.equals(request.getSerialNumber())) {
+                    throw new IllegalArgumentException("배치 내 시리얼 넘버가 일치하지 않습니다: " + request.getSerialNumber());
+                }
+
+                String type = validateRecord(request);
+                if (!claimSequence(type, request)) {
+                    results.add(new DataCollectionBatchResponse.RecordResult(i, DataCollectionBatchResponse.Status.DUPLICATE, null));
+                    duplicates++;
+                    continue;
+                }
+
+                switch (type) {
+                    case "feeding":
+                        feedings.add(buildFeedingEntity(cat, request));
+                        break;
+                    case "intake":
+                        intakes.add(buildIntakeEntity(cat, request));
+                        break;
+                    case "eye":
+                        eyes.add(buildEyeEntity(cat, request));
+                        eyeRequests.add(request);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("유효하지 않은 데이터 타입입니다: " + request.getType());
+                }
+
+                results.add(new DataCollectionBatchResponse.RecordResult(i, DataCollectionBatchResponse.Status.ACCEPTED, null));
+                accepted++;
+            } catch (IllegalArgumentException e) {
+                results.add(new DataCollectionBatchResponse.RecordResult(i, DataCollectionBatchResponse.Status.REJECTED, e.getMessage()));
+            }
+        }
+
+        // 타입별로 모아서 저장 (hibernate.jdbc.batch_size 단위로 묶여서 전송)
+        feedingRepository.saveAll(feedings);
+        intakeRepository.saveAll(intakes);
+        eyeRepository.saveAll(eyes);
+
+        // 시간/일 단위 집계 갱신 (구간별로 합산해 구간마다 한 번만 갱신)
+        intakeRollupService.apply(intakes, feedings);
+
+        // 대시보드 캐시에서 기록이 추가된 날짜만 무효화
+        publishDataChanged(binding, CatDataChangedEvent.DataType.INTAKE, intakes.stream().map(Intake::getIntakeDateTime).toList());
+        publishDataChanged(binding, CatDataChangedEvent.DataType.FEEDING, feedings.stream().map(Feeding::getFeedingDateTime).toList());
+        publishDataChanged(binding, CatDataChangedEvent.DataType.EYE, eyes.stream().map(Eye::getCapturedDateTime).toList());
+
+        // 이상 감지 및 알림은 커밋 이후 비동기로 처리
+        for (Feeding feeding : feedings) {
+            publishFeedingRecorded(binding, feeding);
+        }
+        for (DataCollectionRequest request : eyeRequests) {
+            publishEyeScanRecorded(binding, request);
+        }
+
+        return new DataCollectionBatchResponse(accepted, requests.size() - accepted - duplicates, duplicates, results);
+    }
+
+    /**
+     * 요청의 필수 값을 타입별로 검증하고 소문자로 정규화된 데이터 타입을 반환하는 메서드
+     * - DB 조회 없이 요청 자체만 검증하므로 비동기 수집 시 큐에 넣기 전에도 사용합니다.
+     *
+     * @param request 수집된 데이터 요청 객체 (DTO)
+     * @return 소문자로 변환된 데이터 타입 (feeding, intake, eye)
+     */
+    public String validateRecord(DataCollectionRequest request) {
+        if (request.getSerialNumber() == null || request.getSerialNumber().isBlank()) {
+            throw new IllegalArgumentException("시리얼 넘버가 비어 있습니다.");
+        }
+        if (request.getType() == null) {
+            throw new IllegalArgumentException("데이터 타입이 비어 있습니다.");
+        }
+        if (request.getDatetime() == null || request.getData() == null) {
+            throw new IllegalArgumentException("데이터 발생 시간 또는 데이터가 비어 있습니다.");
+        }
+
+        String type = request.getType().toLowerCase();
+        DataCollectionRequest.Payload data = request.getData();
+        switch (type) {
+            case "feeding":
+                if (data.getConfiguredAmount() == null || data.getActualAmount() == null) {
+                    throw new IllegalArgumentException("급여량 데이터가 비어 있습니다.");
+                }
+                break;
+            case "intake":
+                if (data.getAmount() == null || data.getDuration() == null) {
+                    throw new IllegalArgumentException("섭취 데이터가 비어 있습니다.");
+                }
+                break;
+            case "eye":
+                if (data.getEyes() == null || data.getEyes().isEmpty()) {
+                    throw new IllegalArgumentException("안구 질환 데이터가 비어 있습니다.");
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("유효하지 않은 데이터 타입입니다: " + request.getType());
+        }
+
+        if (request.getSequenceNumber() != null && request.getSequenceNumber() < 0) {
+            throw new IllegalArgumentException("시퀀스 번호는 0 이상이어야 합니다: " + request.getSequenceNumber());
+        }
+        if (request.getSequenceEpoch() != null && request.getSequenceEpoch() < 0) {
+            throw new IllegalArgumentException("시퀀스 번호 세대는 0 이상이어야 합니다: " + request.getSequenceEpoch());
+        }
+        return type;
+    }
+
+    /**
+     * 시퀀스 번호가 있는 레코드의 중복 여부를 기기/시퀀스 세대 단위로 확인하고 선점하는 메서드
+     * - 시퀀스 번호가 없는 레코드는 중복 검사 없이 항상 저장합니다.
+     *
+     * @param type    소문자로 변환된 데이터 타입
+     * @param request 수집된 데이터 요청 객체 (DTO)
+     * @return 저장해야 하면 true, 이미 수집된 레코드면 false
+     */
+    private boolean claimSequence(String type, DataCollectionRequest request) {
+        if (request.getSequenceNumber() == null) {
+            return true;
+        }
+        return deviceSequenceTracker.claim(request.getSerialNumber(), sequenceEpoch(request), type, request.getSequenceNumber());
+    }
+
+    /**
+     * 시퀀스 번호가 있는 레코드의 시퀀스 세대를 반환하는 메서드 (세대를 보내지 않은 기기는 0, 시퀀스 번호가 없으면 null)
+     */
+    private Long sequenceEpoch(DataCollectionRequest request) {
+        if (request.getSequenceNumber() == null) {
+            return null;
+        }
+        return request.getSequenceEpoch() != null ? request.getSequenceEpoch() : 0L;
+    }
+
+    /**
+     * 시퀀스 번호가 있는 레코드의 기기 시리얼 넘버를 반환하는 메서드 (시퀀스 번호가 없으면 null)
+     */
+    private String sequenceSerialNumber(DataCollectionRequest request) {
+        return request.getSequenceNumber() != null ? request.getSerialNumber() : null;
     }
 
     /**
      * Feeding 데이터를 저장하는 메서드
      *
+     * @param binding 시리얼 넘버로 조회한 고양이/소유자 정보
      * @param cat     연결된 고양이 엔티티
      * @param request 수집된 데이터 요청 객체 (DTO)
      */
-    private void saveFeedingData(Cat cat, DataCollectionRequest request) {
-        Feeding feeding = Feeding.builder()
-                .cat(cat)
-                .feedingDateTime(request.getDatetime())
-                .configuredFeedingAmount(request.getData().getConfiguredAmount())
-                .actualFeedingAmount(request.getData().getActualAmount())
-                .build();
-        feedingRepository.save(feeding);
+    private void saveFeedingData(CatBindingDto binding, Cat cat, DataCollectionRequest request) {
+        Feeding feeding = feedingRepository.save(buildFeedingEntity(cat, request));
+        intakeRollupService.apply(List.of(), List.of(feeding));
+        publishDataChanged(binding, CatDataChangedEvent.DataType.FEEDING, List.of(feeding.getFeedingDateTime()));
 
-        // 급여량 이상 감지 및 알림
-        checkAndNotifyFeedingAnomaly(cat, request.getData().getConfiguredAmount(), 
-                request.getData().getActualAmount());
+        // 급여량 이상 감지 및 알림은 커밋 이후 비동기로 처리
+        publishFeedingRecorded(binding, feeding);
     }
 
     /**
      * Intake 데이터를 저장하는 메서드
      *
+     * @param binding 시리얼 넘버로 조회한 고양이/소유자 정보
      * @param cat     연결된 고양이 엔티티
      * @param request 수집된 데이터 요청 객체 (DTO)
      */
-    private void saveIntakeData(Cat cat, DataCollectionRequest request) {
-        Intake intake = Intake.builder()
-                .cat(cat)
-                .intakeDateTime(request.getDatetime())
-                .intakeDuration(request.getData().getDuration())
-                .intakeAmount(request.getData().getAmount())
-                .build();
-        intakeRepository.save(intake);
+    private void saveIntakeData(CatBindingDto binding, Cat cat, DataCollectionRequest request) {
+        Intake intake = intakeRepository.save(buildIntakeEntity(cat, request));
+        intakeRollupService.apply(List.of(intake), List.of());
+        publishDataChanged(binding, CatDataChangedEvent.DataType.INTAKE, List.of(intake.getIntakeDateTime()));
     }
 
     /**
      * Eye 데이터를 저장하는 메서드
      *
+     * @param binding 시리얼 넘버로 조회한 고양이/소유자 정보
      * @param cat     연결된 고양이 엔티티
      * @param request 수집된 데이터 요청 객체 (DTO)
      */
-    private void saveEyeData(Cat cat, DataCollectionRequest request) {
-        if (request.getData().getEyes() == null || request.getData().getEyes().isEmpty()) {
-            throw new IllegalArgumentException("안구 질환 데이터가 비어 있습니다.");
-        }
-
+    private void saveEyeData(CatBindingDto binding, Cat cat, DataCollectionRequest request) {
         // Eye 엔티티 생성 및 데이터 설정
         Eye eye = buildEyeEntity(cat, request);
         eyeRepository.save(eye);
+        publishDataChanged(binding, CatDataChangedEvent.DataType.EYE, List.of(eye.getCapturedDateTime()));
+
+        // 안구 질환 감지 및 알림은 커밋 이후 비동기로 처리
+        publishEyeScanRecorded(binding, request);
+    }
+
+    /**
+     * Feeding 엔티티를 생성하는 메서드
+     *
+     * @param cat     연결된 고양이 엔티티
+     * @param request 수집된 데이터 요청 객체 (DTO)
+     * @return 저장 전 Feeding 엔티티
+     */
+    private Feeding buildFeedingEntity(Cat cat, DataCollectionRequest request) {
+        return Feeding.builder()
+                .cat(cat)
+                .feedingDateTime(request.getDatetime())
+                .configuredFeedingAmount(request.getData().getConfiguredAmount())
+                .actualFeedingAmount(request.getData().getActualAmount())
+                .deviceSeq(request.getSequenceNumber())
+                .deviceSerialNumber(sequenceSerialNumber(request))
+                .deviceSeqEpoch(sequenceEpoch(request))
+                .build();
+    }
 
-        // 안구 질환 감지 및 알림
-        checkAndNotifyEyeDisease(cat, request.getData().getEyes());
+    /**
+     * Intake 엔티티를 생성하는 메서드
+     *
+     * @param cat     연결된 고양이 엔티티
+     * @param request 수집된 데이터 요청 객체 (DTO)
+     * @return 저장 전 Intake 엔티티
+     */
+    private Intake buildIntakeEntity(Cat cat, DataCollectionRequest request) {
+        return Intake.builder()
+                .cat(cat)
+                .intakeDateTime(request.getDatetime())
+                .intakeDuration(request.getData().getDuration())
+                .intakeAmount(request.getData().getAmount())
+                .deviceSeq(request.getSequenceNumber())
+                .deviceSerialNumber(sequenceSerialNumber(request))
+                .deviceSeqEpoch(sequenceEpoch(request))
+                .build();
     }
 
     /**
@@ -151,65 +370,41 @@ public class DataCollectionService {
         return probability != null && probability.compareTo(BigDecimal.valueOf(threshold)) >= 0;
     }
 
-    private void checkAndNotifyFeedingAnomaly(Cat cat, Integer configuredAmount, Integer actualAmount) {
-        if (configuredAmount == 0) return;
-
-        double difference = Math.abs(configuredAmount - actualAmount);
-        double differencePercentage = (difference / configuredAmount) * 100;
-
-        if (differencePercentage >= 50) {
-            try {
-                Long userId = cat.getDevice().getUser().getId();
-                List<String> userTokens = fcmTokenService.getActiveTokensByUserId(userId);
-                
-                if (userTokens.isEmpty()) {
-                    // FCM 토큰이 없는 경우 로그만 남기고 계속 진행
-                    log.warn("사용자 {}의 활성화된 FCM 토큰이 없습니다. 알림 로그는 저장됩니다.", userId);
-                }
-
-                String title = "사료 배급량 이상 감지";
-                String body = String.format("%s의 사료 배급량이 설정값과 %.1f%% 차이가 발생했습니다.", 
-                        cat.getName(), differencePercentage);
-                
-                // 알림 전송 및 로그 저장 (토큰이 없어도 로그는 저장)
-                notificationService.sendNotificationWithLog(cat, title, body, NotificationCategory.DEVICE);
-                
-            } catch (Exception e) {
-                log.error("알림 처리 중 오류 발생 - 고양이: {}, 에러: {}", cat.getName(), e.getMessage());
-            }
+    /**
+     * 기록이 저장된 날짜를 담은 변경 이벤트를 발행하는 메서드 (커밋 직전 데이터 버전 증가, 커밋 이후 DashboardCache 무효화)
+     */
+    private void publishDataChanged(CatBindingDto binding, CatDataChangedEvent.DataType dataType, List<LocalDateTime> dateTimes) {
+        if (dateTimes.isEmpty()) {
+            return;
         }
+        Set<LocalDate> dates = new HashSet<>();
+        dateTimes.forEach(dateTime -> dates.add(dateTime.toLocalDate()));
+        eventPublisher.publishEvent(new CatDataChangedEvent(binding.getCatId(), dataType, dates));
     }
 
-    private void checkAndNotifyEyeDisease(Cat cat, List<DataCollectionRequest.Payload.EyeInfo> eyes) {
-        for (DataCollectionRequest.Payload.EyeInfo eyeInfo : eyes) {
-            if (isEyeDiseaseDetected(eyeInfo)) {
-                try {
-                    String title = "눈 건강 이상 감지";
-                    String body = String.format("%s의 눈에서 이상 징후가 감지되었습니다. 상세 내용을 확인해주세요.", 
-                            cat.getName());
-                    
-                    // 알림 전송 및 로그 저장
-                    notificationService.sendNotificationWithLog(cat, title, body, NotificationCategory.EYE);
-                    break; // 한 번만 알림
-                } catch (Exception e) {
-                    log.error("눈 건강 알림 처리 중 오류 발생 - 고양이: {}, 에러: {}", cat.getName(), e.getMessage());
-                }
-            }
-        }
+    /**
+     * 급여 기록 저장 이벤트를 발행하는 메서드 (트랜잭션 커밋 이후 IngestAnomalyService가 처리)
+     */
+    private void publishFeedingRecorded(CatBindingDto binding, Feeding feeding) {
+        eventPublisher.publishEvent(new FeedingRecordedEvent(binding.getCatId(), binding.getCatName(), binding.getUserId(),
+                feeding.getFeedingDateTime(), feeding.getConfiguredFeedingAmount(), feeding.getActualFeedingAmount()));
     }
 
-    private boolean isEyeDiseaseDetected(DataCollectionRequest.Payload.EyeInfo eyeInfo) {
-        return eyeInfo.getBlepharitisProb().compareTo(BigDecimal.valueOf(0.5)) >= 0 ||
-                eyeInfo.getConjunctivitisProb().compareTo(BigDecimal.valueOf(0.5)) >= 0 ||
-                eyeInfo.getCornealSequestrumProb().compareTo(BigDecimal.valueOf(0.5)) >= 0 ||
-                eyeInfo.getNonUlcerativeKeratitisProb().compareTo(BigDecimal.valueOf(0.5)) >= 0 ||
-                eyeInfo.getCornealUlcerProb().compareTo(BigDecimal.valueOf(0.5)) >= 0;
+    /**
+     * 안구 촬영 결과 저장 이벤트를 발행하는 메서드 (트랜잭션 커밋 이후 IngestAnomalyService가 처리)
+     */
+    private void publishEyeScanRecorded(CatBindingDto binding, DataCollectionRequest request) {
+        eventPublisher.publishEvent(new EyeScanRecordedEvent(binding.getCatId(), binding.getCatName(), binding.getUserId(),
+                request.getDatetime(), request.getData().getEyes()));
     }
 
     private Eye buildEyeEntity(Cat cat, DataCollectionRequest request) {
         Eye.EyeBuilder eyeBuilder = Eye.builder()
                 .cat(cat)
-                .capturedDateTime(request.getDatetime());
+                .capturedDateTime(request.getDatetime())
+                .deviceSeq(request.getSequenceNumber())
+                .deviceSerialNumber(sequenceSerialNumber(request))
+                .deviceSeqEpoch(sequenceEpoch(request));
 
         for (DataCollectionRequest.Payload.EyeInfo eyeInfo : request.getData().getEyes()) {
             if ("right".equalsIgnoreCase(eyeInfo.getEyeSide())) {
@@ -0,0 +1,188 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.repository.EyeRepository;
+import com.myaicrosoft.myonitoring.repository.FeedingRepository;
+import com.myaicrosoft.myonitoring.repository.IntakeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 기기 시퀀스 번호 기반 중복 수집 방지 서비스 클래스
+ * - 기기(시리얼 넘버)/시퀀스 세대/데이터 타입별로 "커밋된 최대 시퀀스 번호 + 최근 64개 비트맵"만 메모리에 유지합니다.
+ * - 고양이가 아니라 기기 단위로 판단하므로, 기기를 교체하거나 다른 고양이에 다시 연결해도 새 기기의 번호가
+ *   이전 기기의 번호와 겹쳐 중복으로 버려지지 않습니다. 기기 카운터가 초기화되면 기기가 세대(seq_epoch)를 바꿔 보냅니다.
+ * - 대부분의 재전송은 메모리에서 중복으로 판단되어 저장 전 조회 없이 버려집니다.
+ * - 비트맵 범위를 벗어난 오래된 번호나 서버 재시작 직후의 번호만 DB에서 존재 여부를 확인하며,
+ *   다른 인스턴스와 경합하는 경우는 (device_serial_number, device_seq_epoch, device_seq) 유니크 인덱스가 최종적으로 막습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
+public class DeviceSequenceTracker {
+
+    private static final int WINDOW_SIZE = Long.SIZE; // 비트맵으로 추적하는 최근 시퀀스 개수
+
+    private final IntakeRepository intakeRepository;
+    private final FeedingRepository feedingRepository;
+    private final EyeRepository eyeRepository;
+
+    private final ConcurrentMap<String, SequenceWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 시퀀스 번호를 선점하는 메서드
+     * - 새 번호면 현재 트랜잭션이 끝날 때까지 선점해 두고, 커밋되면 처리된 번호로 기록합니다.
+     * - 롤백되면 선점을 해제하므로 기기가 재전송하면 다시 저장됩니다.
+     *
+     * @param serialNumber   기기의 시리얼 넘버
+     * @param epoch          시퀀스 번호 세대
+     * @param type           데이터 타입 (feeding, intake, eye)
+     * @param sequenceNumber 기기 시퀀스 번호
+     * @return 새 레코드면 true, 이미 처리(또는 처리 중)된 레코드면 false
+     */
+    public boolean claim(String serialNumber, long epoch, String type, long sequenceNumber) {
+        String key = windowKey(serialNumber, epoch, type);
+        SequenceWindow window = windows.get(key);
+        if (window == null) {
+            // 처음 보는 기기는 DB의 최대 시퀀스 번호로 초기화 (기기/세대/타입당 한 번만 조회)
+            Long storedMax = findMaxSequence(serialNumber, epoch, type);
+            window = windows.computeIfAbsent(key, k -> new SequenceWindow(storedMax));
+        }
+
+        SequenceState state = window.check(sequenceNumber);
+        if (state == SequenceState.UNKNOWN && existsSequence(serialNumber, epoch, type, sequenceNumber)) {
+            state = SequenceState.DUPLICATE;
+        }
+        if (state == SequenceState.DUPLICATE || !window.begin(sequenceNumber)) {
+            log.debug("중복 수집 데이터 무시 - 기기: {}, 세대: {}, 타입: {}, 시퀀스: {}", serialNumber, epoch, type, sequenceNumber);
+            return false;
+        }
+
+        SequenceWindow claimed = window;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    claimed.complete(sequenceNumber, status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            claimed.complete(sequenceNumber, true);
+        }
+        return true;
+    }
+
+    private String windowKey(String serialNumber, long epoch, String type) {
+        return serialNumber + ":" + epoch + ":" + type;
+    }
+
+    private Long findMaxSequence(String serialNumber, long epoch, String type) {
+        switch (type) {
+            case "feeding":
+                return feedingRepository.findMaxDeviceSeq(serialNumber, epoch);
+            case "intake":
+                return intakeRepository.findMaxDeviceSeq(serialNumber, epoch);
+            case "eye":
+                return eyeRepository.findMaxDeviceSeq(serialNumber, epoch);
+            default:
+                throw new IllegalArgumentException("유효하지 않은 데이터 타입입니다: " + type);
+        }
+    }
+
+    private boolean existsSequence(String serialNumber, long epoch, String type, long sequenceNumber) {
+        switch (type) {
+            case "feeding":
+                return feedingRepository.existsByDeviceSerialNumberAndDeviceSeqEpochAndDeviceSeq(serialNumber, epoch, sequenceNumber);
+            case "intake":
+                return intakeRepository.existsByDeviceSerialNumberAndDeviceSeqEpochAndDeviceSeq(serialNumber, epoch, sequenceNumber);
+            case "eye":
+                return eyeRepository.existsByDeviceSerialNumberAndDeviceSeqEpochAndDeviceSeq(serialNumber, epoch, sequenceNumber);
+            default:
+                throw new IllegalArgumentException("유효하지 않은 데이터 타입입니다: " + type);
+        }
+    }
+
+    /**
+     * 메모리 판단 결과
+     */
+    private enum SequenceState {
+        NEW,       // 처리된 적 없음
+        DUPLICATE, // 이미 처리되었거나 처리 중
+        UNKNOWN    // 메모리로 판단할 수 없어 DB 확인 필요
+    }
+
+    /**
+     * 기기/세대/타입별 시퀀스 수신 현황
+     * - highWaterMark: 커밋된 가장 큰 시퀀스 번호
+     * - seenBits: i번째 비트가 (highWaterMark - i) 번호의 커밋 여부
+     * - trustedFrom: 이 번호 이상은 서버 기동 이후 모두 비트맵에 기록되었으므로 DB 확인이 필요 없음
+     */
+    private static final class SequenceWindow {
+        private final long trustedFrom;
+        private long highWaterMark;
+        private long seenBits;
+        private final Set<Long> inFlight = new HashSet<>(); // 트랜잭션 진행 중인 번호
+
+        private SequenceWindow(Long storedMax) {
+            if (storedMax == null) {
+                this.highWaterMark = -1;
+                this.seenBits = 0;
+                this.trustedFrom = 0;
+            } else {
+                this.highWaterMark = storedMax;
+                this.seenBits = 1;
+                this.trustedFrom = storedMax + 1;
+            }
+        }
+
+        private synchronized SequenceState check(long sequenceNumber) {
+            if (inFlight.contains(sequenceNumber)) {
+                return SequenceState.DUPLICATE;
+            }
+            if (sequenceNumber > highWaterMark) {
+                return SequenceState.NEW;
+            }
+            long offset = highWaterMark - sequenceNumber;
+            if (offset >= WINDOW_SIZE) {
+                return SequenceState.UNKNOWN;
+            }
+            if ((seenBits >>> offset & 1L) != 0) {
+                return SequenceState.DUPLICATE;
+            }
+            return sequenceNumber >= trustedFrom ? SequenceState.NEW : SequenceState.UNKNOWN;
+        }
+
+        private synchronized boolean begin(long sequenceNumber) {
+            // DB 확인 중에 다른 요청이 같은 번호를 선점/커밋했을 수 있으므로 다시 확인
+            if (check(sequenceNumber) == SequenceState.DUPLICATE) {
+                return false;
+            }
+            return inFlight.add(sequenceNumber);
+        }
+
+        private synchronized void complete(long sequenceNumber, boolean committed) {
+            inFlight.remove(sequenceNumber);
+            if (!committed) {
+                return;
+            }
+            if (sequenceNumber > highWaterMark) {
+                long shift = sequenceNumber - highWaterMark;
+                seenBits = shift >= WINDOW_SIZE ? 0 : seenBits << shift;
+                seenBits |= 1L;
+                highWaterMark = sequenceNumber;
+            } else {
+                long offset = highWaterMark - sequenceNumber;
+                if (offset < WINDOW_SIZE) {
+                    seenBits |= 1L << offset;
+                }
+            }
+        }
+    }
+}
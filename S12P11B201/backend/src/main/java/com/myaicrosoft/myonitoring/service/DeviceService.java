@@ -29,6 +29,7 @@ public class DeviceService {
     private final DeviceRepository deviceRepository;
     private final UserRepository userRepository;
     private final SecurityUtil securityUtil;
+    private final CatBindingCache catBindingCache;
 
     /**
      * 기기를 생성하고 저장하는 로직
@@ -47,6 +48,8 @@ public class DeviceService {
                 .user(user)  // 여기서 user를 설정합니다.
                 .build();
 
+        // 같은 시리얼 넘버로 재등록되는 경우 이전 연결 정보를 무효화
+        catBindingCache.evict(device.getSerialNumber());
         return deviceRepository.save(device);
     }
 
@@ -105,6 +108,7 @@ public class DeviceService {
         }
 
         deviceRepository.delete(device);
+        catBindingCache.evict(device.getSerialNumber());
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.myaicrosoft.myonitoring.service;
 
 import lombok.RequiredArgsConstructor;
+import com.myaicrosoft.myonitoring.model.dto.EyeDiseaseDetailResponseDto;
 import com.myaicrosoft.myonitoring.model.entity.Eye;
 import com.myaicrosoft.myonitoring.repository.EyeRepository;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,9 @@ import java.util.*;
 @RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
 public class EyeService {
 
+    private static final BigDecimal DISEASE_THRESHOLD = BigDecimal.valueOf(0.5); // 질환 확률 기준
+    private static final String NO_DISEASE_MESSAGE = "안구 건강 의심 증상이 발견되지 않았습니다.";
+
     private final EyeRepository eyeRepository;
 
     /**
@@ -24,58 +28,34 @@ public class EyeService {
      *
      * @param catId 고양이 ID (Primary Key)
      * @param day   조회할 날짜
-     * @return 안구 질환 데이터 또는 메시지 반환 (Map 형식)
+     * @return 안구 질환 데이터 또는 메시지 (DTO)
      */
-    public Object getEyeDiseaseDetails(Long catId, LocalDate day) {
-        // 해당 날짜의 시작과 끝 시간 계산
+    public EyeDiseaseDetailResponseDto getEyeDiseaseDetails(Long catId, LocalDate day) {
+        // 해당 날짜의 시작 시간과 다음 날의 시작 시간(미포함) 계산
         LocalDateTime startOfDay = day.atStartOfDay();
-        LocalDateTime endOfDay = day.atTime(23, 59, 59);
+        LocalDateTime startOfNextDay = day.plusDays(1).atStartOfDay();
 
         // isEyeDiseased가 true인 가장 최신 데이터 조회
-        Optional<Eye> latestDiseasedData = eyeRepository.findTopByCatIdAndCapturedDateTimeBetweenAndIsEyeDiseasedOrderByCapturedDateTimeDesc(
-                catId, startOfDay, endOfDay, true);
+        Optional<Eye> latestDiseasedData = eyeRepository.findTopByCatIdAndIsEyeDiseasedAndCapturedDateTimeGreaterThanEqualAndCapturedDateTimeLessThanOrderByCapturedDateTimeDesc(
+                catId, true, startOfDay, startOfNextDay);
 
         // 데이터가 없는 경우 메시지 반환
         if (latestDiseasedData.isEmpty()) {
-            return Map.of("message", "안구 건강 의심 증상이 발견되지 않았습니다.");
+            return new EyeDiseaseDetailResponseDto(NO_DISEASE_MESSAGE, null, null, null);
         }
 
         // 가장 최신 데이터 가져오기
         Eye eye = latestDiseasedData.get();
+        EyeDiseaseDetailResponseDto.EyeImages images =
+                new EyeDiseaseDetailResponseDto.EyeImages(eye.getLeftEyeImageUrl(), eye.getRightEyeImageUrl());
 
         // 질병이 없는 경우에도 이미지 URL과 함께 메시지 반환
         if (!eye.getIsEyeDiseased()) {
-            Map<String, Object> response = new LinkedHashMap<>();
-            response.put("message", "안구 건강 의심 증상이 발견되지 않았습니다.");
-            
-            // 이미지 URL 추가
-            Map<String, String> images = new LinkedHashMap<>();
-            if (eye.getLeftEyeImageUrl() != null) {
-                images.put("left", eye.getLeftEyeImageUrl());
-            }
-            if (eye.getRightEyeImageUrl() != null) {
-                images.put("right", eye.getRightEyeImageUrl());
-            }
-            response.put("images", images);
-            
-            return response;
+            return new EyeDiseaseDetailResponseDto(NO_DISEASE_MESSAGE, null, images, null);
         }
 
         // 0.5 이상인 확률만 필터링하여 반환 데이터 생성
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put("date_time", eye.getCapturedDateTime().toString());
-        
-        // 이미지 URL 추가
-        Map<String, String> images = new LinkedHashMap<>();
-        if (eye.getLeftEyeImageUrl() != null) {
-            images.put("left", eye.getLeftEyeImageUrl());
-        }
-        if (eye.getRightEyeImageUrl() != null) {
-            images.put("right", eye.getRightEyeImageUrl());
-        }
-        response.put("images", images);
-
-        List<Map<String, Map<String, BigDecimal>>> filteredData = new ArrayList<>();
+        List<Map<String, EyeDiseaseDetailResponseDto.EyeProbability>> filteredData = new ArrayList<>();
 
         addIfAboveThreshold(filteredData, "blepharitis_prob", eye.getLeftBlepharitisProb(), eye.getRightBlepharitisProb());
         addIfAboveThreshold(filteredData, "conjunctivitis_prob", eye.getLeftConjunctivitisProb(), eye.getRightConjunctivitisProb());
@@ -83,9 +63,7 @@ public class EyeService {
         addIfAboveThreshold(filteredData, "non_ulcerative_keratitis_prob", eye.getLeftNonUlcerativeKeratitisProb(), eye.getRightNonUlcerativeKeratitisProb());
         addIfAboveThreshold(filteredData, "corneal_ulcer_prob", eye.getLeftCornealUlcerProb(), eye.getRightCornealUlcerProb());
 
-        response.put("data", filteredData);
-
-        return response;
+        return new EyeDiseaseDetailResponseDto(null, eye.getCapturedDateTime(), images, filteredData);
     }
 
     /**
@@ -96,16 +74,15 @@ public class EyeService {
      * @param leftValue  왼쪽 눈 확률 값
      * @param rightValue 오른쪽 눈 확률 값
      */
-    private void addIfAboveThreshold(List<Map<String, Map<String, BigDecimal>>> dataList,
+    private void addIfAboveThreshold(List<Map<String, EyeDiseaseDetailResponseDto.EyeProbability>> dataList,
                                      String key,
                                      BigDecimal leftValue,
                                      BigDecimal rightValue) {
-        if ((leftValue != null && leftValue.compareTo(BigDecimal.valueOf(0.5)) >= 0) ||
-                (rightValue != null && rightValue.compareTo(BigDecimal.valueOf(0.5)) >= 0)) {
-            dataList.add(Map.of(key, Map.of(
-                    "left", leftValue != null ? leftValue : BigDecimal.ZERO,
-                    "right", rightValue != null ? rightValue : BigDecimal.ZERO
-            )));
+        if ((leftValue != null && leftValue.compareTo(DISEASE_THRESHOLD) >= 0) ||
+                (rightValue != null && rightValue.compareTo(DISEASE_THRESHOLD) >= 0)) {
+            dataList.add(Collections.singletonMap(key, new EyeDiseaseDetailResponseDto.EyeProbability(
+                    leftValue != null ? leftValue : BigDecimal.ZERO,
+                    rightValue != null ? rightValue : BigDecimal.ZERO)));
         }
     }
 }
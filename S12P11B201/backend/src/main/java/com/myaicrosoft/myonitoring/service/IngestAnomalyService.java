@@ -0,0 +1,104 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.config.AsyncConfig;
+import com.myaicrosoft.myonitoring.event.EyeScanRecordedEvent;
+import com.myaicrosoft.myonitoring.event.FeedingRecordedEvent;
+import com.myaicrosoft.myonitoring.model.dto.DataCollectionRequest;
+import com.myaicrosoft.myonitoring.model.entity.Cat;
+import com.myaicrosoft.myonitoring.model.entity.NotificationCategory;
+import com.myaicrosoft.myonitoring.repository.CatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+
+/**
+ * 수집 데이터 이상 감지 서비스 클래스
+ * - 수집 트랜잭션이 커밋된 뒤 발행된 이벤트를 별도 실행기에서 받아 이상 여부를 판단하고 알림을 보냅니다.
+ * - FCM 전송이 느려도 수집 트랜잭션(DB 커넥션)을 붙잡지 않으며, 알림 실패가 수집을 롤백하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
+public class IngestAnomalyService {
+
+    private static final BigDecimal EYE_DISEASE_THRESHOLD = BigDecimal.valueOf(0.5);
+
+    private final CatRepository catRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * 급여량이 설정값과 50% 이상 차이 나면 알림을 보내는 메서드
+     *
+     * @param event 급여 기록 저장 이벤트
+     */
+    @Async(AsyncConfig.ANOMALY_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFeedingRecorded(FeedingRecordedEvent event) {
+        Integer configuredAmount = event.getConfiguredAmount();
+        if (configuredAmount == 0) return;
+
+        double difference = Math.abs(configuredAmount - event.getActualAmount());
+        double differencePercentage = (difference / configuredAmount) * 100;
+
+        if (differencePercentage >= 50) {
+            try {
+                String title = "사료 배급량 이상 감지";
+                String body = String.format("%s의 사료 배급량이 설정값과 %.1f%% 차이가 발생했습니다.",
+                        event.getCatName(), differencePercentage);
+
+                // 알림 전송 및 로그 저장 (토큰이 없어도 로그는 저장)
+                notificationService.sendNotificationWithLog(event.getUserId(), catReference(event.getCatId()),
+                        event.getCatName(), title, body, NotificationCategory.DEVICE);
+
+            } catch (Exception e) {
+                log.error("알림 처리 중 오류 발생 - 고양이: {}, 에러: {}", event.getCatName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 한쪽 눈이라도 질환 확률이 임계값 이상이면 알림을 한 번 보내는 메서드
+     *
+     * @param event 안구 촬영 결과 저장 이벤트
+     */
+    @Async(AsyncConfig.ANOMALY_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEyeScanRecorded(EyeScanRecordedEvent event) {
+        boolean detected = event.getEyes().stream().anyMatch(this::isEyeDiseaseDetected);
+        if (!detected) {
+            return;
+        }
+
+        try {
+            String title = "눈 건강 이상 감지";
+            String body = String.format("%s의 눈에서 이상 징후가 감지되었습니다. 상세 내용을 확인해주세요.",
+                    event.getCatName());
+
+            // 알림 전송 및 로그 저장
+            notificationService.sendNotificationWithLog(event.getUserId(), catReference(event.getCatId()),
+                    event.getCatName(), title, body, NotificationCategory.EYE);
+        } catch (Exception e) {
+            log.error("눈 건강 알림 처리 중 오류 발생 - 고양이: {}, 에러: {}", event.getCatName(), e.getMessage());
+        }
+    }
+
+    private boolean isEyeDiseaseDetected(DataCollectionRequest.Payload.EyeInfo eyeInfo) {
+        return eyeInfo.getBlepharitisProb().compareTo(EYE_DISEASE_THRESHOLD) >= 0 ||
+                eyeInfo.getConjunctivitisProb().compareTo(EYE_DISEASE_THRESHOLD) >= 0 ||
+                eyeInfo.getCornealSequestrumProb().compareTo(EYE_DISEASE_THRESHOLD) >= 0 ||
+                eyeInfo.getNonUlcerativeKeratitisProb().compareTo(EYE_DISEASE_THRESHOLD) >= 0 ||
+                eyeInfo.getCornealUlcerProb().compareTo(EYE_DISEASE_THRESHOLD) >= 0;
+    }
+
+    /**
+     * 알림 로그의 연관관계 설정용 고양이 참조 (ID만 사용하므로 조회 쿼리 없음)
+     */
+    private Cat catReference(Long catId) {
+        return catRepository.getReferenceById(catId);
+    }
+}
@@ -0,0 +1,307 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.config.AsyncConfig;
+import com.myaicrosoft.myonitoring.model.dto.DataCollectionBatchResponse;
+import com.myaicrosoft.myonitoring.model.dto.DataCollectionRequest;
+import com.myaicrosoft.myonitoring.model.dto.IngestQueueMetricsDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기(write-behind) 데이터 수집 서비스 클래스
+ * - 요청 스레드는 검증 후 고정 크기 큐에 넣기만 하고, 별도의 드레이너 스레드가 큐를 비우며 배치로 저장합니다.
+ * - 큐가 가득 차면 enqueue가 실패하며, 컨트롤러는 이를 429(Retry-After)로 변환해 기기가 재전송을 늦추도록 합니다.
+ *   여러 건은 빈 자리를 세마포어로 먼저 예약한 뒤 넣으므로, 모두 들어가거나 한 건도 들어가지 않습니다.
+ * - 큐는 메모리에만 있으므로 enqueue 성공은 "저장 예정"일 뿐 저장 완료를 뜻하지 않습니다.
+ *   락 대기/타임아웃/커넥션 오류 같은 일시적 DB 오류는 지수 백오프로 재시도하고,
+ *   재시도 후에도 실패하거나 프로세스가 비정상 종료되면 해당 레코드는 유실됩니다. (lost 메트릭)
+ */
+@Slf4j
+@Service
+public class IngestQueueService {
+
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10); // 배출 속도 측정 구간
+    private static final long SHUTDOWN_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30); // 종료 시 남은 레코드 저장 대기 시간
+
+    private final DataCollectionService dataCollectionService;
+    private final BlockingQueue<DataCollectionRequest> queue;
+    private final Semaphore freeSlots; // 큐의 빈 자리 (넣기 전에 예약하고, 꺼낸 뒤 반환)
+    private final Executor drainExecutor;
+    private final int capacity;
+    private final int drainerThreads;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final List<CompletableFuture<Void>> drainers = new ArrayList<>();
+    private volatile boolean running;
+
+    // 메트릭
+    private final LongAdder enqueuedCount = new LongAdder();  // 큐에 들어간 레코드 수
+    private final LongAdder rejectedCount = new LongAdder();  // 큐가 가득 차서 거부된 레코드 수
+    private final LongAdder drainedCount = new LongAdder();   // 저장된 레코드 수
+    private final LongAdder failedCount = new LongAdder();    // 유효성 실패 등 재시도해도 저장할 수 없는 레코드 수
+    private final LongAdder lostCount = new LongAdder();      // 일시적 오류가 재시도 후에도 계속되어 저장하지 못한 레코드 수
+    private final LongAdder retryCount = new LongAdder();     // 일시적 오류로 다시 시도한 횟수
+    private final LongAdder duplicateCount = new LongAdder(); // 이미 수집되어 무시한 레코드 수
+    private final LongAdder batchCount = new LongAdder();     // 드레이너가 처리한 배치 수
+    private final AtomicInteger lastBatchSize = new AtomicInteger();
+    private final AtomicInteger maxObservedBatchSize = new AtomicInteger();
+    private final LongAdder windowDrained = new LongAdder();
+    private long windowStartNanos = System.nanoTime();
+    private volatile double drainRatePerSecond;
+
+    public IngestQueueService(DataCollectionService dataCollectionService,
+                              @Qualifier(AsyncConfig.INGEST_DRAIN_EXECUTOR) Executor drainExecutor,
+                              @Value("${ingest.queue.capacity:10000}") int capacity,
+                              @Value("${ingest.queue.drainer-threads:2}") int drainerThreads,
+                              @Value("${ingest.queue.max-batch-size:200}") int maxBatchSize,
+                              @Value("${ingest.queue.retry.max-attempts:5}") int maxAttempts,
+                              @Value("${ingest.queue.retry.initial-backoff-ms:200}") long initialBackoffMillis,
+                              @Value("${ingest.queue.retry.max-backoff-ms:5000}") long maxBackoffMillis) {
+        this.dataCollectionService = dataCollectionService;
+        this.drainExecutor = drainExecutor;
+        this.capacity = capacity;
+        this.drainerThreads = drainerThreads;
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.freeSlots = new Semaphore(capacity);
+    }
+
+    /**
+     * 드레이너를 드레이너 전용 실행기(AsyncConfig.INGEST_DRAIN_EXECUTOR)에서 시작하는 메서드
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < drainerThreads; i++) {
+            drainers.add(CompletableFuture.runAsync(this::drainLoop, drainExecutor));
+        }
+        log.info("비동기 수집 큐 시작 - 용량: {}, 드레이너: {}, 최대 배치: {}", capacity, drainerThreads, maxBatchSize);
+    }
+
+    /**
+     * 종료 시 큐에 남은 레코드를 모두 저장한 뒤 드레이너를 정지하는 메서드
+     * - 저장에 필요한 빈(DB 커넥션 등)이 정리되기 전에 드레이너가 끝나도록 여기서 기다립니다.
+     *   실행기 자체의 종료 대기는 그 이후의 안전장치입니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_WAIT_MILLIS;
+        for (CompletableFuture<Void> drainer : drainers) {
+            try {
+                drainer.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                log.warn("비동기 수집 큐 종료 대기 시간 초과 - 남은 레코드: {}", queue.size());
+                return;
+            } catch (ExecutionException e) {
+                log.error("비동기 수집 드레이너 비정상 종료 - 에러: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * 레코드 한 건을 큐에 넣는 메서드
+     *
+     * @param request 검증이 끝난 데이터 요청 객체 (DTO)
+     * @return 큐에 들어갔으면 true, 큐가 가득 찼으면 false
+     */
+    public boolean enqueue(DataCollectionRequest request) {
+        if (!freeSlots.tryAcquire()) {
+            rejectedCount.increment();
+            return false;
+        }
+        queue.add(request); // 예약한 자리가 있으므로 항상 성공
+        enqueuedCount.increment();
+        return true;
+    }
+
+    /**
+     * 여러 건의 레코드를 큐에 넣는 메서드
+     * - 남은 용량이 부족하면 한 건도 넣지 않고 false를 반환합니다. (빈 자리를 한 번에 예약하므로 다른 요청과 경합해도 일부만 들어가지 않음)
+     *
+     * @param requests 검증이 끝난 데이터 요청 객체 목록 (DTO)
+     * @return 모두 큐에 들어갔으면 true
+     */
+    public boolean enqueueAll(List<DataCollectionRequest> requests) {
+        if (!freeSlots.tryAcquire(requests.size())) {
+            rejectedCount.add(requests.size());
+            return false;
+        }
+        queue.addAll(requests); // 예약한 자리가 있으므로 항상 성공
+        enqueuedCount.add(requests.size());
+        return true;
+    }
+
+    /**
+     * 현재 큐 상태와 처리량 메트릭을 반환하는 메서드
+     *
+     * @return 큐 메트릭 DTO
+     */
+    public IngestQueueMetricsDto getMetrics() {
+        updateDrainRate();
+        long batches = batchCount.sum();
+        long drained = drainedCount.sum();
+        return new IngestQueueMetricsDto(
+                queue.size(),
+                capacity,
+                enqueuedCount.sum(),
+                rejectedCount.sum(),
+                drained,
+                failedCount.sum(),
+                lostCount.sum(),
+                retryCount.sum(),
+                duplicateCount.sum(),
+                batches,
+                lastBatchSize.get(),
+                maxObservedBatchSize.get(),
+                batches == 0 ? 0 : (double) (drained + failedCount.sum() + lostCount.sum() + duplicateCount.sum()) / batches,
+                drainRatePerSecond
+        );
+    }
+
+    /**
+     * 드레이너 스레드의 메인 루프
+     * - 첫 레코드를 기다린 뒤 큐에 쌓인 만큼(최대 배치 크기) 한 번에 꺼내 시리얼 넘버별로 저장합니다.
+     */
+    private void drainLoop() {
+        List<DataCollectionRequest> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                DataCollectionRequest first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                freeSlots.release(batch.size());
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("비동기 수집 배치 처리 중 오류 발생 - 레코드 수: {}, 에러: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 꺼낸 레코드를 시리얼 넘버별로 묶어 저장하는 메서드
+     *
+     * @param batch 큐에서 꺼낸 레코드 목록
+     */
+    private void persist(List<DataCollectionRequest> batch) throws InterruptedException {
+        Map<String, List<DataCollectionRequest>> bySerialNumber = new LinkedHashMap<>();
+        for (DataCollectionRequest request : batch) {
+            bySerialNumber.computeIfAbsent(request.getSerialNumber(), key -> new ArrayList<>()).add(request);
+        }
+
+        for (Map.Entry<String, List<DataCollectionRequest>> entry : bySerialNumber.entrySet()) {
+            saveWithRetry(entry.getKey(), entry.getValue());
+        }
+
+        batchCount.increment();
+        lastBatchSize.set(batch.size());
+        maxObservedBatchSize.accumulateAndGet(batch.size(), Math::max);
+        updateDrainRate();
+    }
+
+    /**
+     * 한 기기의 레코드를 저장하되, 일시적 DB 오류는 지수 백오프로 재시도하는 메서드
+     * - saveBatch는 하나의 트랜잭션이므로 실패하면 전체가 롤백되어 그대로 다시 시도할 수 있습니다.
+     * - 재시도해도 같은 결과가 나오는 오류(제약 조건 위반 등)는 바로 실패로 집계합니다.
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     * @param records      저장할 레코드 목록
+     */
+    private void saveWithRetry(String serialNumber, List<DataCollectionRequest> records) throws InterruptedException {
+        long backoffMillis = initialBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                DataCollectionBatchResponse response = dataCollectionService.saveBatch(records);
+                drainedCount.add(response.getAccepted());
+                failedCount.add(response.getRejected());
+                duplicateCount.add(response.getDuplicates());
+                windowDrained.add(response.getAccepted());
+                return;
+            } catch (Exception e) {
+                if (!isTransient(e)) {
+                    failedCount.add(records.size());
+                    log.error("비동기 수집 저장 실패 - 시리얼 넘버: {}, 레코드 수: {}, 에러: {}",
+                            serialNumber, records.size(), e.getMessage());
+                    return;
+                }
+                if (attempt >= maxAttempts) {
+                    lostCount.add(records.size());
+                    log.error("비동기 수집 저장 재시도 초과로 유실 - 시리얼 넘버: {}, 레코드 수: {}, 시도: {}, 에러: {}",
+                            serialNumber, records.size(), attempt, e.getMessage());
+                    return;
+                }
+                retryCount.increment();
+                log.warn("비동기 수집 저장 일시적 오류, {}ms 후 재시도 - 시리얼 넘버: {}, 레코드 수: {}, 시도: {}, 에러: {}",
+                        backoffMillis, serialNumber, records.size(), attempt, e.getMessage());
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                lostCount.add(records.size());
+                log.error("비동기 수집 저장 재시도 중 종료되어 유실 - 시리얼 넘버: {}, 레코드 수: {}", serialNumber, records.size());
+                throw e;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+        }
+    }
+
+    /**
+     * 잠시 뒤 다시 시도하면 성공할 수 있는 DB 오류인지 확인하는 메서드
+     * - 락 대기 시간 초과/데드락/쿼리 타임아웃, 커넥션 획득 실패 및 끊김
+     */
+    private boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * 일정 구간마다 초당 저장 레코드 수를 갱신하는 메서드
+     */
+    private synchronized void updateDrainRate() {
+        long now = System.nanoTime();
+        long elapsed = now - windowStartNanos;
+        if (elapsed >= RATE_WINDOW_NANOS) {
+            drainRatePerSecond = windowDrained.sumThenReset() * 1_000_000_000.0 / elapsed;
+            windowStartNanos = now;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.model.dto.DataCollectionRequest;
+import com.myaicrosoft.myonitoring.model.dto.DeviceIngestMetricsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기기(시리얼 넘버)별 데이터 수집 속도 제한 서비스 클래스
+ * - 데이터 타입별로 초당 허용 레코드 수(rate)와 순간 허용량(burst)을 두는 토큰 버킷입니다.
+ * - GCRA(Generic Cell Rate Algorithm) 방식으로 버킷 상태를 "다음 토큰 도착 예정 시각" 하나의 AtomicLong에 담아
+ *   락 없이 CAS로 갱신합니다.
+ * - 제한은 DB 커넥션을 잡기 전에 컨트롤러에서 확인하므로, 고장 난 기기가 다른 기기의 수집을 방해하지 않습니다.
+ */
+@Slf4j
+@Service
+public class IngestRateLimiter {
+
+    private static final String[] TYPES = {"feeding", "intake", "eye"};
+    private static final String OVERFLOW_KEY = "*"; // 추적 기기 수를 넘었을 때 공유하는 버킷
+    private static final long IDLE_EVICTION_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final boolean enabled;
+    private final int maxDevices;
+    private final long[] emissionIntervalNanos = new long[TYPES.length]; // 토큰 하나가 채워지는 간격
+    private final long[] burstToleranceNanos = new long[TYPES.length];   // burst만큼의 토큰에 해당하는 시간
+    private final int[] bursts = new int[TYPES.length];                  // 한 번에 가져갈 수 있는 최대 토큰 수
+
+    private final ConcurrentMap<String, DeviceBucket> buckets = new ConcurrentHashMap<>();
+
+    public IngestRateLimiter(@Value("${ingest.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${ingest.rate-limit.max-devices:10000}") int maxDevices,
+                             @Value("${ingest.rate-limit.feeding.rate-per-second:1}") double feedingRate,
+                             @Value("${ingest.rate-limit.feeding.burst:300}") int feedingBurst,
+                             @Value("${ingest.rate-limit.intake.rate-per-second:2}") double intakeRate,
+                             @Value("${ingest.rate-limit.intake.burst:1000}") int intakeBurst,
+                             @Value("${ingest.rate-limit.eye.rate-per-second:0.5}") double eyeRate,
+                             @Value("${ingest.rate-limit.eye.burst:100}") int eyeBurst) {
+        this.enabled = enabled;
+        this.maxDevices = maxDevices;
+        configure(0, feedingRate, feedingBurst);
+        configure(1, intakeRate, intakeBurst);
+        configure(2, eyeRate, eyeBurst);
+    }
+
+    private void configure(int typeIndex, double ratePerSecond, int burst) {
+        emissionIntervalNanos[typeIndex] = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        burstToleranceNanos[typeIndex] = emissionIntervalNanos[typeIndex] * burst;
+        bursts[typeIndex] = burst;
+    }
+
+    /**
+     * 요청 레코드들의 시리얼 넘버/데이터 타입별 개수만큼 토큰을 가져가는 메서드
+     * - 여러 기기의 레코드가 섞여 있으면 모든 기기가 허용될 때만 허용합니다.
+     *
+     * @param requests 수집된 데이터 요청 객체 목록 (DTO)
+     * @return 허용되면 0, 거부되면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     * @throws BatchTooLargeException 한 기기의 같은 타입 레코드 수가 burst를 넘어 기다려도 허용될 수 없는 경우
+     */
+    public long tryAcquire(List<DataCollectionRequest> requests) {
+        if (!enabled) {
+            return 0;
+        }
+
+        Map<String, Map<String, Integer>> permitsBySerialNumber = countPermits(requests);
+        permitsBySerialNumber.values().forEach(this::checkBurst);
+
+        List<Map.Entry<String, Map<String, Integer>>> acquired = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Integer>> entry : permitsBySerialNumber.entrySet()) {
+            long waitNanos = tryAcquire(entry.getKey(), entry.getValue());
+            if (waitNanos > 0) {
+                acquired.forEach(previous -> release(previous.getKey(), previous.getValue()));
+                return waitNanos;
+            }
+            acquired.add(entry);
+        }
+        return 0;
+    }
+
+    /**
+     * 허용된 요청이 저장 큐에 들어가지 못한 경우 가져간 토큰을 돌려놓는 메서드
+     *
+     * @param requests tryAcquire로 허용된 데이터 요청 객체 목록 (DTO)
+     */
+    public void refund(List<DataCollectionRequest> requests) {
+        if (!enabled) {
+            return;
+        }
+        countPermits(requests).forEach(this::release);
+    }
+
+    /**
+     * 요청 레코드를 시리얼 넘버/데이터 타입(소문자)별 개수로 묶는 메서드
+     */
+    private Map<String, Map<String, Integer>> countPermits(List<DataCollectionRequest> requests) {
+        Map<String, Map<String, Integer>> permitsBySerialNumber = new LinkedHashMap<>();
+        for (DataCollectionRequest request : requests) {
+            if (request.getSerialNumber() == null || request.getType() == null) {
+                continue; // 유효성 검증에서 거부될 레코드
+            }
+            permitsBySerialNumber.computeIfAbsent(request.getSerialNumber(), key -> new HashMap<>())
+                    .merge(request.getType().toLowerCase(), 1, Integer::sum);
+        }
+        return permitsBySerialNumber;
+    }
+
+    /**
+     * 타입별 레코드 수가 burst 이하인지 확인하는 메서드
+     * - burst보다 많은 토큰은 버킷이 가득 차 있어도 한 번에 가져갈 수 없으므로, 429로 재시도를 유도하지 않고 거부합니다.
+     */
+    private void checkBurst(Map<String, Integer> permitsByType) {
+        for (int i = 0; i < TYPES.length; i++) {
+            Integer permits = permitsByType.get(TYPES[i]);
+            if (permits != null && permits > bursts[i]) {
+                throw new BatchTooLargeException(TYPES[i], permits, bursts[i]);
+            }
+        }
+    }
+
+    /**
+     * 기기의 데이터 타입별 레코드 수만큼 토큰을 가져가는 메서드
+     * - 한 타입이라도 부족하면 앞서 가져간 토큰을 돌려놓고 전체를 거부합니다.
+     *
+     * @param serialNumber  기기의 시리얼 넘버
+     * @param permitsByType 데이터 타입(소문자)별 레코드 수 (알 수 없는 타입은 무시)
+     * @return 허용되면 0, 거부되면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    private long tryAcquire(String serialNumber, Map<String, Integer> permitsByType) {
+        DeviceBucket bucket = bucketFor(serialNumber);
+        long now = System.nanoTime();
+        bucket.lastSeenNanos = now;
+        bucket.lastSeenMillis = System.currentTimeMillis();
+
+        long[] acquired = new long[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            Integer permits = permitsByType.get(TYPES[i]);
+            if (permits == null || permits <= 0) {
+                continue;
+            }
+            long waitNanos = acquire(bucket.theoreticalArrival[i], i, permits, now);
+            if (waitNanos > 0) {
+                // 앞서 가져간 타입의 토큰을 반환
+                for (int j = 0; j < i; j++) {
+                    if (acquired[j] > 0) {
+                        bucket.theoreticalArrival[j].addAndGet(-acquired[j]);
+                    }
+                }
+                bucket.throttled.add(permitsByType.values().stream().mapToLong(Integer::longValue).sum());
+                return waitNanos;
+            }
+            acquired[i] = emissionIntervalNanos[i] * permits;
+        }
+        return 0;
+    }
+
+    /**
+     * 앞서 가져간 토큰을 돌려놓는 메서드 (여러 기기를 함께 허용하다 일부가 거부되거나 큐에 넣지 못한 경우 사용)
+     *
+     * @param serialNumber  기기의 시리얼 넘버
+     * @param permitsByType 데이터 타입(소문자)별 레코드 수
+     */
+    private void release(String serialNumber, Map<String, Integer> permitsByType) {
+        DeviceBucket bucket = bucketFor(serialNumber);
+        for (int i = 0; i < TYPES.length; i++) {
+            Integer permits = permitsByType.get(TYPES[i]);
+            if (permits != null && permits > 0) {
+                bucket.theoreticalArrival[i].addAndGet(-emissionIntervalNanos[i] * permits);
+            }
+        }
+    }
+
+    /**
+     * GCRA: 다음 토큰 도착 예정 시각(TAT)을 비용만큼 미루되, burst 허용 범위를 넘으면 거부
+     * - permits가 burst보다 크면 대기 시간이 끝나도 허용될 수 없으므로 호출 전에 checkBurst로 걸러야 합니다.
+     *
+     * @return 허용되면 0, 거부되면 남은 대기 시간 (나노초)
+     */
+    private long acquire(AtomicLong theoreticalArrival, int typeIndex, int permits, long now) {
+        if (permits > bursts[typeIndex]) {
+            throw new BatchTooLargeException(TYPES[typeIndex], permits, bursts[typeIndex]);
+        }
+        long increment = emissionIntervalNanos[typeIndex] * permits;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long newTat = Math.max(tat, now) + increment;
+            long allowAt = newTat - burstToleranceNanos[typeIndex];
+            if (allowAt - now > 0) {
+                return allowAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 저장 결과를 기기별로 집계하는 메서드
+     *
+     * @param serialNumber 기기의 시리얼 넘버
+     * @param accepted     허용된(저장 대상) 레코드 수
+     * @param rejected     유효성 검증에 실패한 레코드 수
+     */
+    public void recordOutcome(String serialNumber, long accepted, long rejected) {
+        if (serialNumber == null || serialNumber.isBlank()) {
+            return;
+        }
+        DeviceBucket bucket = bucketFor(serialNumber);
+        bucket.accepted.add(accepted);
+        bucket.rejected.add(rejected);
+    }
+
+    /**
+     * 거부/제한이 많은 순서로 기기별 수집 통계를 반환하는 메서드
+     *
+     * @param limit 최대 기기 수
+     * @return 기기별 수집 통계 DTO 리스트
+     */
+    public List<DeviceIngestMetricsDto> getDeviceMetrics(int limit) {
+        return buckets.entrySet().stream()
+                .map(entry -> new DeviceIngestMetricsDto(
+                        entry.getKey(),
+                        entry.getValue().accepted.sum(),
+                        entry.getValue().throttled.sum(),
+                        entry.getValue().rejected.sum(),
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getValue().lastSeenMillis), ZoneId.systemDefault())))
+                .sorted(Comparator.comparingLong((DeviceIngestMetricsDto dto) -> dto.getThrottled() + dto.getRejected()).reversed()
+                        .thenComparing(DeviceIngestMetricsDto::getSerialNumber))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 한 시간 이상 요청이 없는 기기의 버킷을 정리하는 메서드 (버킷은 그동안 가득 찼으므로 상태 손실 없음)
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void evictIdleDevices() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> now - entry.getValue().lastSeenNanos > IDLE_EVICTION_NANOS);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("유휴 기기 속도 제한 버킷 정리 - 제거: {}, 남은 기기: {}", evicted, buckets.size());
+        }
+    }
+
+    private DeviceBucket bucketFor(String serialNumber) {
+        DeviceBucket bucket = buckets.get(serialNumber);
+        if (bucket != null) {
+            return bucket;
+        }
+        // 임의의 시리얼 넘버로 메모리를 채우지 못하도록 추적 기기 수를 제한
+        String key = buckets.size() >= maxDevices ? OVERFLOW_KEY : serialNumber;
+        return buckets.computeIfAbsent(key, k -> new DeviceBucket());
+    }
+
+    /**
+     * 한 요청의 기기별 같은 타입 레코드 수가 burst(한 번에 보낼 수 있는 최대 개수)를 넘은 경우의 예외
+     */
+    public static class BatchTooLargeException extends IllegalArgumentException {
+        private BatchTooLargeException(String type, int permits, int maxBatchSize) {
+            super(type + " 레코드는 기기당 한 번에 최대 " + maxBatchSize + "개까지 보낼 수 있습니다. (요청: " + permits + "개)");
+        }
+    }
+
+    /**
+     * 기기별 토큰 버킷과 수집 통계
+     */
+    private static final class DeviceBucket {
+        private final AtomicLong[] theoreticalArrival = new AtomicLong[TYPES.length]; // 타입별 다음 토큰 도착 예정 시각
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private volatile long lastSeenNanos = System.nanoTime();
+        private volatile long lastSeenMillis = System.currentTimeMillis();
+
+        private DeviceBucket() {
+            for (int i = 0; i < theoreticalArrival.length; i++) {
+                theoreticalArrival[i] = new AtomicLong(Long.MIN_VALUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.model.entity.Feeding;
+import com.myaicrosoft.myonitoring.model.entity.Intake;
+import com.myaicrosoft.myonitoring.repository.IntakeDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 섭취/급여 일 단위 집계 갱신 서비스 클래스
+ * - 수집된 기록을 (고양이, 날짜) 구간별로 먼저 합산한 뒤 구간마다 한 번씩 증분 갱신합니다.
+ * - 수집 트랜잭션 안에서 호출되므로 기록과 집계가 함께 커밋/롤백됩니다.
+ */
+@Service
+@RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
+public class IntakeRollupService {
+
+    private final IntakeDailyRollupRepository dailyRollupRepository;
+
+    /**
+     * 저장된 섭취/급여 기록을 집계에 반영하는 메서드
+     *
+     * @param intakes  저장된 섭취 기록
+     * @param feedings 저장된 급여 기록
+     */
+    public void apply(Collection<Intake> intakes, Collection<Feeding> feedings) {
+        if (intakes.isEmpty() && feedings.isEmpty()) {
+            return;
+        }
+
+        // 키 순서대로 갱신해 동시에 같은 고양이의 집계를 갱신하는 트랜잭션 간 교착 상태를 피함
+        Map<BucketKey, Delta> daily = new TreeMap<>();
+
+        for (Intake intake : intakes) {
+            delta(daily, intake.getCat().getId(), intake.getIntakeDateTime().toLocalDate()).addIntake(intake);
+        }
+        for (Feeding feeding : feedings) {
+            delta(daily, feeding.getCat().getId(), feeding.getFeedingDateTime().toLocalDate()).addFeeding(feeding);
+        }
+
+        daily.forEach((key, delta) -> dailyRollupRepository.upsertIncrement(key.catId, key.bucket,
+                delta.intakeAmount, delta.intakeCount, delta.intakeDuration,
+                delta.feedingCount, delta.configuredFeeding, delta.actualFeeding));
+    }
+
+    private static Delta delta(Map<BucketKey, Delta> deltas, Long catId, LocalDate bucket) {
+        return deltas.computeIfAbsent(new BucketKey(catId, bucket), key -> new Delta());
+    }
+
+    /**
+     * 집계 구간 키 (고양이 ID, 날짜) - TreeMap 정렬 기준으로만 사용
+     */
+    private static class BucketKey implements Comparable<BucketKey> {
+        private final Long catId;
+        private final LocalDate bucket;
+
+        private BucketKey(Long catId, LocalDate bucket) {
+            this.catId = catId;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public int compareTo(BucketKey other) {
+            int byCat = catId.compareTo(other.catId);
+            return byCat != 0 ? byCat : bucket.compareTo(other.bucket);
+        }
+    }
+
+    /**
+     * 구간별 증분 합계
+     */
+    private static class Delta {
+        private int intakeAmount;
+        private int intakeCount;
+        private int intakeDuration;
+        private int feedingCount;
+        private int configuredFeeding;
+        private int actualFeeding;
+
+        private void addIntake(Intake intake) {
+            intakeAmount += intake.getIntakeAmount();
+            intakeCount++;
+            intakeDuration += intake.getIntakeDuration();
+        }
+
+        private void addFeeding(Feeding feeding) {
+            feedingCount++;
+            configuredFeeding += feeding.getConfiguredFeedingAmount();
+            actualFeeding += feeding.getActualFeedingAmount();
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.myaicrosoft.myonitoring.service;
 
 import lombok.RequiredArgsConstructor;
-import com.myaicrosoft.myonitoring.model.entity.Feeding;
-import com.myaicrosoft.myonitoring.model.entity.Intake;
+import com.myaicrosoft.myonitoring.model.dto.DailyIntakeFeedingDto;
+import com.myaicrosoft.myonitoring.model.dto.FeedingIntakeDetailDto;
+import com.myaicrosoft.myonitoring.model.dto.FeedingTimeDto;
+import com.myaicrosoft.myonitoring.model.dto.IntakeTimeDto;
+import com.myaicrosoft.myonitoring.model.entity.IntakeDailyRollup;
 import com.myaicrosoft.myonitoring.repository.FeedingRepository;
+import com.myaicrosoft.myonitoring.repository.IntakeDailyRollupRepository;
 import com.myaicrosoft.myonitoring.repository.IntakeRepository;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +19,7 @@ import java.util.*;
 
 /**
  * 섭취(Intake) 및 급여(Feeding) 데이터를 처리하는 서비스 클래스
+ * - 일간/주간 누적 응답은 DashboardCache에 캐시되며, 해당 날짜의 섭취/급여 기록이 수집되면 무효화됩니다.
  */
 @Service
 @RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
@@ -22,25 +27,20 @@ public class IntakeService {
 
     private final IntakeRepository intakeRepository;
     private final FeedingRepository feedingRepository;
+    private final IntakeDailyRollupRepository dailyRollupRepository;
+    private final DashboardCache dashboardCache;
 
     /**
-     * 일간 누적 섭취량을 계산하는 메서드
+     * 일간 누적 섭취량을 계산하는 메서드 (일 단위 집계 한 행 조회)
      *
      * @param catId 고양이 ID (Primary Key)
      * @param date  조회할 날짜
      * @return 누적 섭취량 (BigDecimal)
      */
     public BigDecimal getDailyCumulativeIntake(Long catId, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-
-        // 섭취 데이터 조회
-        List<Intake> intakes = intakeRepository.findByCatIdAndIntakeDateTimeBetween(catId, startOfDay, endOfDay);
-
-        // 섭취량 합산
-        return intakes.stream()
-                .map(intake -> BigDecimal.valueOf(intake.getIntakeAmount())) // Integer → BigDecimal 변환
-                .reduce(BigDecimal.ZERO, BigDecimal::add); // BigDecimal 합산
+        return dashboardCache.get(catId, DashboardCache.View.DAILY_INTAKE, date, () -> dailyRollupRepository.findByCatIdAndRollupDate(catId, date)
+                .map(rollup -> BigDecimal.valueOf(rollup.getIntakeAmountSum()))
+                .orElse(BigDecimal.ZERO)); // 섭취 기록이 없는 날
     }
 
     /**
@@ -50,34 +50,27 @@ public class IntakeService {
      * @param weekStart 주간 시작 날짜
      * @return 요일별 누적 데이터 (섭취량 및 급여량 포함)
      */
-    public Map<String, Map<String, Integer>> getWeeklyCumulativeData(Long catId, LocalDate weekStart) {
-        LocalDateTime startOfWeek = weekStart.atStartOfDay();
-        LocalDateTime endOfWeek = weekStart.plusDays(6).atTime(LocalTime.MAX);
+    public Map<String, DailyIntakeFeedingDto> getWeeklyCumulativeData(Long catId, LocalDate weekStart) {
+        return dashboardCache.get(catId, DashboardCache.View.WEEKLY_INTAKE, weekStart,
+                () -> loadWeeklyCumulativeData(catId, weekStart));
+    }
 
-        // 해당 주의 섭취 데이터와 급여 데이터 조회
-        List<Intake> intakes = intakeRepository.findByCatIdAndIntakeDateTimeBetween(catId, startOfWeek, endOfWeek);
-        List<Feeding> feedings = feedingRepository.findByCatIdAndWeek(catId, startOfWeek, endOfWeek);
+    private Map<String, DailyIntakeFeedingDto> loadWeeklyCumulativeData(Long catId, LocalDate weekStart) {
+        // 해당 주의 일 단위 집계 조회 (최대 7행)
+        List<IntakeDailyRollup> rollups = dailyRollupRepository.findByCatIdAndDateRange(catId, weekStart, weekStart.plusDays(6));
 
-        // 결과 데이터를 담을 맵 초기화 (요일별 자동 정렬)
-        Map<String, Map<String, Integer>> weeklyData = new TreeMap<>();
+        // 결과 데이터를 담을 맵 초기화 (날짜 순서대로 추가)
+        Map<String, DailyIntakeFeedingDto> weeklyData = new LinkedHashMap<>();
 
         for (int i = 0; i < 7; i++) {
-            String day = weekStart.plusDays(i).toString();
-            weeklyData.put(day, new HashMap<>());
-            weeklyData.get(day).put("intake", 0);
-            weeklyData.get(day).put("feeding", 0);
-        }
-
-        // 섭취 데이터 합산
-        for (Intake intake : intakes) {
-            String day = intake.getIntakeDateTime().toLocalDate().toString();
-            weeklyData.get(day).put("intake", weeklyData.get(day).get("intake") + intake.getIntakeAmount());
+            weeklyData.put(weekStart.plusDays(i).toString(), new DailyIntakeFeedingDto(0, 0));
         }
 
-        // 급여 데이터 합산
-        for (Feeding feeding : feedings) {
-            String day = feeding.getFeedingDateTime().toLocalDate().toString();
-            weeklyData.get(day).put("feeding", weeklyData.get(day).get("feeding") + feeding.getConfiguredFeedingAmount());
+        // 날짜별 섭취량 및 (설정) 급여량 합계
+        for (IntakeDailyRollup rollup : rollups) {
+            DailyIntakeFeedingDto daily = weeklyData.get(rollup.getRollupDate().toString());
+            daily.setIntake(rollup.getIntakeAmountSum());
+            daily.setFeeding(rollup.getConfiguredFeedingSum());
         }
 
         return weeklyData;
@@ -85,77 +78,58 @@ public class IntakeService {
 
     /**
      * 일간 급여 및 섭취 상세 데이터를 반환하는 메서드
+     * - 급여마다 급여 시각부터 다음 급여 시각까지(양 끝 포함)의 섭취 기록과 누적 섭취량을 묶습니다.
+     *   마지막 급여는 다음 날 첫 급여(다음 날 첫 급여가 없으면 하루의 끝, LocalTime.MAX)까지이며, 이 경계도 포함합니다.
+     * - 급여와 섭취 기록을 모두 시간순으로 조회하므로, 두 목록을 한 번씩만 훑는 병합으로 처리합니다.
      *
      * @param catId 고양이 ID (Primary Key)
      * @param day   조회할 날짜
-     * @return 급여 및 섭취 상세 데이터 리스트 (List 형식)
+     * @return 급여 및 섭취 상세 데이터 리스트 (급여 시간순)
      */
-    public List<Map<String, Object>> getDailyFeedingAndIntakeDetails(Long catId, LocalDate day) {
-        // 오늘의 시작 시간과 종료 시간
+    public List<FeedingIntakeDetailDto> getDailyFeedingAndIntakeDetails(Long catId, LocalDate day) {
+        // 오늘의 시작 시간과 종료 시간 (종료 시간 포함, 기존 응답과 같은 경계를 유지)
         LocalDateTime startOfDay = day.atStartOfDay();
         LocalDateTime endOfDay = day.atTime(LocalTime.MAX);
 
-        // 내일의 시작 시간과 종료 시간
+        // 오늘의 급여 (시간순)와 내일의 첫 급여 시각
+        List<FeedingTimeDto> feedings = feedingRepository.findFeedingTimesByCatIdAndPeriod(catId, startOfDay, endOfDay);
+        if (feedings.isEmpty()) {
+            return new ArrayList<>();
+        }
         LocalDate tomorrow = day.plusDays(1);
-        LocalDateTime startOfTomorrow = tomorrow.atStartOfDay();
-        LocalDateTime endOfTomorrow = tomorrow.atTime(LocalTime.MAX);
-
-        // 오늘과 내일의 Feeding 데이터 조회
-        List<Feeding> todayFeedings = feedingRepository.findByCatIdAndFeedingDateTimeBetween(catId, startOfDay, endOfDay);
-        List<Feeding> tomorrowFeedings = feedingRepository.findByCatIdAndFeedingDateTimeBetween(catId, startOfTomorrow, endOfTomorrow);
-
-        // Intake 데이터 조회 (오늘의 첫 Feeding부터 내일의 첫 Feeding까지)
-        LocalDateTime firstFeedingTimeToday = todayFeedings.isEmpty() ? startOfDay : todayFeedings.get(0).getFeedingDateTime();
-        LocalDateTime firstFeedingTimeTomorrow = tomorrowFeedings.isEmpty() ? endOfDay : tomorrowFeedings.get(0).getFeedingDateTime();
-
-        List<Intake> intakes = intakeRepository.findByCatIdAndIntakeDateTimeBetween(catId, firstFeedingTimeToday, firstFeedingTimeTomorrow);
-
-        // 결과 데이터를 담을 리스트 초기화
-        List<Map<String, Object>> result = new ArrayList<>();
-
-        for (int i = 0; i < todayFeedings.size(); i++) {
-            Feeding currentFeeding = todayFeedings.get(i);
-            LocalDateTime feedingTime = currentFeeding.getFeedingDateTime();
-
-            // 다음 Feeding 찾기
-            LocalDateTime nextFeedingTime;
-            if (i + 1 < todayFeedings.size()) {
-                nextFeedingTime = todayFeedings.get(i + 1).getFeedingDateTime();
-            } else {
-                // 마지막 Feeding이면 내일 첫 Feeding 시간 또는 하루의 끝으로 설정
-                nextFeedingTime = tomorrowFeedings.isEmpty() ? endOfDay : tomorrowFeedings.get(0).getFeedingDateTime();
+        LocalDateTime firstFeedingTimeTomorrow = feedingRepository.findFirstFeedingTime(
+                catId, tomorrow.atStartOfDay(), tomorrow.atTime(LocalTime.MAX));
+        LocalDateTime lastWindowEnd = firstFeedingTimeTomorrow == null ? endOfDay : firstFeedingTimeTomorrow;
+
+        // 섭취 기록 (오늘의 첫 급여부터 내일의 첫 급여까지, 양 끝 포함, 시간순)
+        List<IntakeTimeDto> intakes = intakeRepository.findIntakeTimesByCatIdAndPeriod(
+                catId, feedings.get(0).getFeedingDateTime(), lastWindowEnd);
+
+        List<FeedingIntakeDetailDto> result = new ArrayList<>(feedings.size());
+        int windowStart = 0; // 현재 급여 시각 이후 첫 섭취 기록 위치 (급여 시각은 증가하므로 뒤로만 이동)
+        for (int i = 0; i < feedings.size(); i++) {
+            FeedingTimeDto feeding = feedings.get(i);
+            LocalDateTime feedingTime = feeding.getFeedingDateTime();
+            LocalDateTime nextFeedingTime = i + 1 < feedings.size() ? feedings.get(i + 1).getFeedingDateTime() : lastWindowEnd;
+
+            while (windowStart < intakes.size() && intakes.get(windowStart).getIntakeDateTime().isBefore(feedingTime)) {
+                windowStart++;
             }
 
-            // Feeding 데이터 객체 생성
-            Map<String, Object> feedingData = new LinkedHashMap<>();
-            feedingData.put("time", feedingTime.toLocalTime().toString());
-            feedingData.put("amount", currentFeeding.getConfiguredFeedingAmount());
-
-            // Feeding 시간에 해당하는 Intake 데이터 필터링 및 누적 계산
-            List<Map<String, Object>> intakeDetails = new ArrayList<>();
+            // 다음 급여 시각과 같은 시각의 섭취는 두 급여에 모두 포함 (기존 응답과 동일)
+            List<FeedingIntakeDetailDto.IntakeDetail> intakeDetails = new ArrayList<>();
             int cumulativeAmount = 0;
-
-            for (Intake intake : intakes) {
-                // Feeding 시간 이후이며, 다음 Feeding 시간 이전인 Intake만 포함
-                if (!intake.getIntakeDateTime().isBefore(feedingTime) &&
-                        !intake.getIntakeDateTime().isAfter(nextFeedingTime)) {
-
-                    cumulativeAmount += intake.getIntakeAmount();
-
-                    Map<String, Object> intakeData = new LinkedHashMap<>();
-                    intakeData.put("start_time", intake.getIntakeDateTime().toLocalTime().toString());
-                    intakeData.put("end_time", intake.getIntakeDateTime().toLocalTime().plusMinutes(intake.getIntakeDuration()).toString());
-                    intakeData.put("cumulative_amount", cumulativeAmount);
-                    intakeDetails.add(intakeData);
-                }
+            for (int j = windowStart; j < intakes.size() && !intakes.get(j).getIntakeDateTime().isAfter(nextFeedingTime); j++) {
+                IntakeTimeDto intake = intakes.get(j);
+                LocalTime startTime = intake.getIntakeDateTime().toLocalTime();
+                cumulativeAmount += intake.getIntakeAmount();
+                intakeDetails.add(new FeedingIntakeDetailDto.IntakeDetail(
+                        startTime, startTime.plusMinutes(intake.getIntakeDuration()), cumulativeAmount));
             }
 
-            // Feeding과 Intake 데이터를 하나의 객체로 묶어서 저장
-            Map<String, Object> feedingAndIntake = new LinkedHashMap<>();
-            feedingAndIntake.put("feeding", feedingData);
-            feedingAndIntake.put("intake", intakeDetails);
-
-            result.add(feedingAndIntake);
+            result.add(new FeedingIntakeDetailDto(
+                    new FeedingIntakeDetailDto.FeedingDetail(feedingTime.toLocalTime(), feeding.getConfiguredFeedingAmount()),
+                    intakeDetails));
         }
 
         return result;
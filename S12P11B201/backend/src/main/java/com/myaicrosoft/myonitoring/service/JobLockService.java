@@ -0,0 +1,181 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.repository.JobLockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * DB 기반 작업 잠금 서비스 클래스
+ * - 백엔드를 여러 인스턴스로 실행해도 스케줄링 작업이 한 인스턴스에서만 실행되도록 job_locks 행을 조건부 UPDATE로 가져갑니다.
+ * - 잠금에는 만료 시각(lease)이 있어, 잠금을 가진 인스턴스가 종료되면 만료 후 다른 인스턴스가 가져갈 수 있습니다.
+ *   작업이 실행되는 동안에는 lease의 1/3마다 만료 시각을 연장하므로 작업 시간이 lease보다 길어도 됩니다.
+ * - 만료 판단은 각 인스턴스의 시계를 사용하므로, 인스턴스 간 시계 차이는 lease의 2/3보다 작아야 합니다. (NTP 동기화 전제)
+ */
+@Slf4j
+@Service
+public class JobLockService {
+
+    private static final LocalDateTime EXPIRED = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final long WAIT_INTERVAL_MILLIS = 1000; // 잠금을 기다릴 때 다시 시도하는 간격
+
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lease;
+    private final String instanceId;
+    private final Set<String> knownLocks = ConcurrentHashMap.newKeySet(); // 행 생성을 이미 확인한 작업 이름
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-lock-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JobLockService(JobLockRepository jobLockRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${scheduler.lock.lease-seconds:60}") long leaseSeconds) {
+        this.jobLockRepository = jobLockRepository;
+        // 호출한 쪽의 트랜잭션과 관계없이 잠금 상태를 바로 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.instanceId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 잠금을 가져갈 수 있을 때만 작업을 실행하는 메서드 (다른 인스턴스가 실행 중이면 건너뜀)
+     * - 작업이 끝난 뒤에도 최소 유지 시간까지는 잠금을 놓지 않으므로, 같은 cron으로 조금 늦게 깨어난
+     *   다른 인스턴스가 작업을 다시 실행하지 않습니다.
+     *
+     * @param name           작업 이름
+     * @param lockAtLeastFor 작업 시작부터 잠금을 유지할 최소 시간
+     * @param task           실행할 작업
+     * @return 실행했으면 true, 다른 인스턴스가 잠금을 가지고 있어 건너뛰었으면 false
+     */
+    public boolean runIfAvailable(String name, Duration lockAtLeastFor, Runnable task) {
+        Lease acquired = tryAcquire(name);
+        if (acquired == null) {
+            log.info("다른 인스턴스가 작업을 실행 중이어서 건너뜁니다. 작업: {}", name);
+            return false;
+        }
+        run(acquired, lockAtLeastFor, () -> {
+            task.run();
+            return null;
+        });
+        return true;
+    }
+
+    /**
+     * 잠금을 가져갈 때까지 기다렸다가 작업을 실행하는 메서드 (여러 인스턴스의 작업을 직렬화할 때 사용)
+     *
+     * @param name    작업 이름
+     * @param maxWait 잠금을 기다릴 최대 시간
+     * @param task    실행할 작업
+     * @return 작업 결과
+     * @throws IllegalStateException 최대 시간 안에 잠금을 가져가지 못한 경우
+     */
+    public <T> T runWhenAvailable(String name, Duration maxWait, Supplier<T> task) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        Lease acquired;
+        while ((acquired = tryAcquire(name)) == null) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("작업 잠금을 얻지 못했습니다. 작업: " + name + ", 대기 시간: " + maxWait);
+            }
+            try {
+                Thread.sleep(WAIT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("작업 잠금을 기다리는 중 중단되었습니다. 작업: " + name, e);
+            }
+        }
+        return run(acquired, Duration.ZERO, task);
+    }
+
+    /**
+     * 잠금을 가진 상태로 작업을 실행하고, 실행 중에는 만료 시각을 연장하는 메서드
+     */
+    private <T> T run(Lease acquired, Duration lockAtLeastFor, Supplier<T> task) {
+        long renewMillis = Math.max(lease.toMillis() / 3, 1);
+        ScheduledFuture<?> renewal = heartbeat.scheduleAtFixedRate(
+                () -> renew(acquired), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        try {
+            return task.get();
+        } finally {
+            renewal.cancel(false);
+            release(acquired, lockAtLeastFor);
+        }
+    }
+
+    private Lease tryAcquire(String name) {
+        if (!knownLocks.contains(name)) {
+            transactionTemplate.executeWithoutResult(status -> jobLockRepository.insertIfAbsent(name, EXPIRED));
+            knownLocks.add(name);
+        }
+        // DB의 DATETIME(6)에 저장된 값과 그대로 비교할 수 있도록 밀리초 단위로 자름
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Integer updated = transactionTemplate.execute(status -> jobLockRepository.tryAcquire(name, instanceId, now, now.plus(lease)));
+        return updated != null && updated > 0 ? new Lease(name, now) : null;
+    }
+
+    private void renew(Lease acquired) {
+        try {
+            Integer updated = transactionTemplate.execute(status -> jobLockRepository.updateLockedUntil(
+                    acquired.name, instanceId, acquired.lockedAt, LocalDateTime.now().plus(lease)));
+            if (updated == null || updated == 0) {
+                log.warn("작업 잠금을 잃었습니다. 다른 인스턴스가 같은 작업을 실행할 수 있습니다. 작업: {}", acquired.name);
+            }
+        } catch (RuntimeException e) {
+            log.warn("작업 잠금 연장 실패 - 작업: {}, 에러: {}", acquired.name, e.getMessage());
+        }
+    }
+
+    private void release(Lease acquired, Duration lockAtLeastFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime holdUntil = acquired.lockedAt.plus(lockAtLeastFor);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobLockRepository.updateLockedUntil(
+                    acquired.name, instanceId, acquired.lockedAt, holdUntil.isAfter(now) ? holdUntil : now));
+        } catch (RuntimeException e) {
+            // 반환하지 못해도 lease가 지나면 만료됨
+            log.warn("작업 잠금 반환 실패 - 작업: {}, 에러: {}", acquired.name, e.getMessage());
+        }
+    }
+
+    private static String resolveHostName() {
+        String hostName = System.getenv("HOSTNAME"); // 컨테이너 ID
+        return hostName != null && !hostName.isBlank() ? hostName : "backend";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    /**
+     * 가져간 잠금 (작업 이름 + 가져간 시각)
+     */
+    private static final class Lease {
+        private final String name;
+        private final LocalDateTime lockedAt;
+
+        private Lease(String name, LocalDateTime lockedAt) {
+            this.name = name;
+            this.lockedAt = lockedAt;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.myaicrosoft.myonitoring.service;
 
 import lombok.RequiredArgsConstructor;
-import com.myaicrosoft.myonitoring.model.entity.*;
-import com.myaicrosoft.myonitoring.repository.*;
+import com.myaicrosoft.myonitoring.model.dto.MainPageResponseDto;
+import com.myaicrosoft.myonitoring.model.dto.MainPageSummaryDto;
+import com.myaicrosoft.myonitoring.model.entity.MedicalCategory;
+import com.myaicrosoft.myonitoring.repository.CatRepository;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -11,144 +13,101 @@ import java.util.*;
 
 /**
  * 메인 페이지 데이터를 처리하는 서비스 클래스
+ * - 메인 페이지에 필요한 값은 CatRepository.findMainPageSummary 한 번의 쿼리로 조회합니다.
+ *   (총 섭취량은 섭취 기록 대신 일 단위 집계, 섭취량 이상 플래그는 전날 통계의 changeDays를 사용)
+ * - 응답은 DashboardCache에 캐시되며, 그날의 섭취/안구/의료 기록이나 전날 통계, 고양이 정보가 바뀌면 무효화됩니다.
  */
 @Service
 @RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
 public class MainPageService {
 
-    private final IntakeRepository intakeRepository;
-    private final StatisticsRepository statisticsRepository;
-    private final EyeRepository eyeRepository;
-    private final MedicalRepository medicalRepository;
+    private static final BigDecimal DISEASE_THRESHOLD = BigDecimal.valueOf(0.5); // 질환 확률 기준
+
     private final CatRepository catRepository;
+    private final DashboardCache dashboardCache;
 
     /**
      * 메인 페이지 데이터를 조회하는 메서드
      *
      * @param catId 고양이 ID (Primary Key)
      * @param day   조회할 날짜 (YYYY-MM-DD)
-     * @return 메인 페이지에 필요한 데이터 (JSON 형식)
+     * @return 메인 페이지에 필요한 데이터 (DTO)
      */
-    public Map<String, Object> getMainPageData(Long catId, LocalDate day) {
-        Map<String, Object> response = new HashMap<>();
-
-        // 고양이 정보 조회 및 이미지 URL 추가
-        Cat cat = catRepository.findById(catId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 고양이를 찾을 수 없습니다. ID: " + catId));
-        response.put("cat_image", cat.getProfileImageUrl());
-
-        // 1. 총 섭취량 데이터 조회
-        int totalIntake = intakeRepository.findByCatIdAndIntakeDateTimeBetween(
-                        catId, day.atStartOfDay(), day.atTime(23, 59, 59))
-                .stream()
-                .mapToInt(Intake::getIntakeAmount)
-                .sum();
-        response.put("total_intake", totalIntake);
-
-        // 2. 섭취량 이상 데이터 조회
-        int intakeAlertFlag = calculateIntakeAlertFlag(catId, day);
-        response.put("intake_alert", Map.of("flag", intakeAlertFlag));
-
-        // 3. 안구 질환 이상 데이터 조회
-        Optional<Eye> latestEyeDisease = eyeRepository.findTopByCatIdAndCapturedDateTimeBetweenAndIsEyeDiseasedOrderByCapturedDateTimeDesc(
-                catId, day.atStartOfDay(), day.atTime(23, 59, 59), true);
-        Map<String, Object> eyeAlert = new HashMap<>();
-        if (latestEyeDisease.isPresent()) {
-            Eye eye = latestEyeDisease.get();
-            Set<String> diseases = new HashSet<>(); // 중복 제거를 위한 Set 사용
-
-            // 오른쪽 눈 질환 확인
-            if (eye.getRightBlepharitisProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("blepharitis");
-            }
-            if (eye.getRightConjunctivitisProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("conjunctivitis");
-            }
-            if (eye.getRightCornealSequestrumProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("corneal_sequestrum");
-            }
-            if (eye.getRightNonUlcerativeKeratitisProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("non_ulcerative_keratitis");
-            }
-            if (eye.getRightCornealUlcerProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("corneal_ulcer");
-            }
-
-            // 왼쪽 눈 질환 확인
-            if (eye.getLeftBlepharitisProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("blepharitis");
-            }
-            if (eye.getLeftConjunctivitisProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("conjunctivitis");
-            }
-            if (eye.getLeftCornealSequestrumProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("corneal_sequestrum");
-            }
-            if (eye.getLeftNonUlcerativeKeratitisProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("non_ulcerative_keratitis");
-            }
-            if (eye.getLeftCornealUlcerProb().compareTo(BigDecimal.valueOf(0.5)) >= 0) {
-                diseases.add("corneal_ulcer");
-            }
+    public MainPageResponseDto getMainPageData(Long catId, LocalDate day) {
+        return dashboardCache.get(catId, DashboardCache.View.MAIN, day, () -> loadMainPageData(catId, day));
+    }
 
-            eyeAlert.put("flag", 1);
-            eyeAlert.put("data", new ArrayList<>(diseases)); // Set을 List로 변환하여 응답에 포함
+    private MainPageResponseDto loadMainPageData(Long catId, LocalDate day) {
+        List<MainPageSummaryDto> rows = catRepository.findMainPageSummary(
+                catId, day, day.minusDays(1), day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("해당 ID의 고양이를 찾을 수 없습니다. ID: " + catId);
+        }
+        MainPageSummaryDto summary = rows.get(0); // 의료 기록 외의 값은 모든 행에서 같음
+
+        // 1. 총 섭취량 (일 단위 집계가 없으면 섭취 기록이 없는 날)
+        Integer totalIntake = summary.getTotalIntake() != null ? summary.getTotalIntake() : 0;
+
+        // 2. 섭취량 이상 플래그
+        MainPageResponseDto.Alert intakeAlert = new MainPageResponseDto.Alert(calculateIntakeAlertFlag(summary), null);
+
+        // 3. 안구 질환 이상 데이터 (양쪽 눈 중 하나라도 기준 이상인 질환, 질환 순서 고정)
+        MainPageResponseDto.Alert eyeAlert;
+        if (summary.getEyeId() != null) {
+            List<String> diseases = new ArrayList<>();
+            addIfDiseased(diseases, "blepharitis", summary.getRightBlepharitisProb(), summary.getLeftBlepharitisProb());
+            addIfDiseased(diseases, "conjunctivitis", summary.getRightConjunctivitisProb(), summary.getLeftConjunctivitisProb());
+            addIfDiseased(diseases, "corneal_sequestrum", summary.getRightCornealSequestrumProb(), summary.getLeftCornealSequestrumProb());
+            addIfDiseased(diseases, "non_ulcerative_keratitis", summary.getRightNonUlcerativeKeratitisProb(), summary.getLeftNonUlcerativeKeratitisProb());
+            addIfDiseased(diseases, "corneal_ulcer", summary.getRightCornealUlcerProb(), summary.getLeftCornealUlcerProb());
+            eyeAlert = new MainPageResponseDto.Alert(1, diseases);
         } else {
-            eyeAlert.put("flag", 0);
+            eyeAlert = new MainPageResponseDto.Alert(0, null);
         }
-        response.put("eye_alert", eyeAlert);
-
-        // 4. 의료 기록 데이터 조회
-        List<Medical> medicalRecords = medicalRepository.findByCatIdAndVisitDateOrderByVisitTimeDesc(catId, day);
-        Map<String, Object> medicalData = new HashMap<>();
-        if (!medicalRecords.isEmpty()) {
-            Set<String> categories = new HashSet<>(); // 중복을 제거하기 위해 Set 사용
 
-            // 모든 의료 기록의 category를 Set에 추가
-            for (Medical medical : medicalRecords) {
-                categories.add(medical.getCategory().name().toLowerCase());
+        // 4. 의료 기록 데이터 (의료 기록마다 한 행, 카테고리 중복 제거)
+        EnumSet<MedicalCategory> categories = EnumSet.noneOf(MedicalCategory.class);
+        for (MainPageSummaryDto row : rows) {
+            if (row.getMedicalCategory() != null) {
+                categories.add(row.getMedicalCategory());
             }
-
-            medicalData.put("flag", 1);
-            medicalData.put("data", new ArrayList<>(categories)); // Set을 List로 변환하여 반환
+        }
+        MainPageResponseDto.Alert medical;
+        if (!categories.isEmpty()) {
+            List<String> categoryNames = new ArrayList<>(categories.size());
+            categories.forEach(category -> categoryNames.add(category.name().toLowerCase()));
+            medical = new MainPageResponseDto.Alert(1, categoryNames);
         } else {
-            medicalData.put("flag", 0);
+            medical = new MainPageResponseDto.Alert(0, null);
         }
-        response.put("medical", medicalData);
 
-        return response;
+        return new MainPageResponseDto(summary.getProfileImageUrl(), medical, eyeAlert, intakeAlert, totalIntake);
     }
 
     /**
      * 섭취량 이상 알림 플래그를 계산하는 메서드
+     * - 전날까지 같은 증감 상태가 2일 이상 이어졌으면(전날과 그 전날 모두 증가 또는 감소) 그 상태를 반환합니다.
      *
-     * @param catId 고양이 ID (Primary Key)
-     * @param day   기준 날짜 (YYYY-MM-DD)
+     * @param summary 메인 페이지 요약 (전날 통계의 changeStatus, changeDays)
      * @return 플래그 값 (-1, 0, 1 중 하나)
      */
-    private int calculateIntakeAlertFlag(Long catId, LocalDate day) {
-        // 기준 날짜 포함하지 않고 이전 최대 2일간 데이터 조회
-        List<Statistics> stats = statisticsRepository.findByCatIdAndStatDateRange(catId, day.minusDays(2), day.minusDays(1));
-
-        if (stats.size() < 2) {
-            return 0; // 데이터가 부족하면 플래그를 0으로 설정
+    private int calculateIntakeAlertFlag(MainPageSummaryDto summary) {
+        if (summary.getChangeDays() == null || summary.getChangeDays() < 2) {
+            return 0; // 전날 통계가 없거나 연속되지 않은 경우
         }
+        return summary.getChangeStatus(); // 두 날 모두 증가(1) 또는 감소(-1)
+    }
 
-        // change_status 값 추출
-        int[] changeStatuses = stats.stream()
-                .mapToInt(Statistics::getChangeStatus)
-                .toArray();
-
-        // 연속성 확인: change_status가 두 날 모두 동일한 값인지 확인
-        boolean isBothPositive = changeStatuses[0] == 1 && changeStatuses[1] == 1;
-        boolean isBothNegative = changeStatuses[0] == -1 && changeStatuses[1] == -1;
-
-        if (isBothPositive) {
-            return 1; // 두 날 모두 증가한 경우
-        } else if (isBothNegative) {
-            return -1; // 두 날 모두 감소한 경우
-        } else {
-            return 0; // 그 외의 경우
+    /**
+     * 한쪽 눈이라도 질환 확률이 기준(0.5) 이상이면 질환 이름을 추가하는 메서드
+     */
+    private static void addIfDiseased(List<String> diseases, String disease, BigDecimal rightProbability, BigDecimal leftProbability) {
+        if (isDiseased(rightProbability) || isDiseased(leftProbability)) {
+            diseases.add(disease);
         }
     }
+
+    private static boolean isDiseased(BigDecimal probability) {
+        return probability != null && probability.compareTo(DISEASE_THRESHOLD) >= 0;
+    }
 }
\ No newline at end of file
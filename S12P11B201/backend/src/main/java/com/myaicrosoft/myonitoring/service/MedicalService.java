@@ -1,13 +1,17 @@
 package com.myaicrosoft.myonitoring.service;
 
+import com.myaicrosoft.myonitoring.event.CatDataChangedEvent;
 import lombok.RequiredArgsConstructor;
 import com.myaicrosoft.myonitoring.model.entity.*;
 import com.myaicrosoft.myonitoring.repository.*;
 import com.myaicrosoft.myonitoring.model.dto.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -19,6 +23,7 @@ public class MedicalService {
 
     private final MedicalRepository medicalRepository;
     private final CatRepository catRepository;
+    private final ApplicationEventPublisher eventPublisher; // 메인 페이지 캐시 무효화 이벤트 발행
 
     /**
      * 의료 기록 생성 로직
@@ -41,7 +46,9 @@ public class MedicalService {
                 .visitTime(request.getVisitTime())
                 .build();
 
-        return medicalRepository.save(medical).getId();
+        Long medicalId = medicalRepository.save(medical).getId();
+        publishMedicalChanged(catId, Set.of(medical.getVisitDate()));
+        return medicalId;
     }
 
     /**
@@ -98,6 +105,9 @@ public class MedicalService {
         Medical medical = medicalRepository.findById(medicalId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 의료 기록을 찾을 수 없습니다. ID: " + medicalId));
 
+        Set<LocalDate> changedDates = new HashSet<>();
+        changedDates.add(medical.getVisitDate()); // 방문 날짜가 바뀌면 이전 날짜와 새 날짜 모두 변경됨
+
         // 2. 필수 필드 업데이트
         medical.setCategory(request.getCategory()); // 카테고리 업데이트
         medical.setTitle(request.getTitle());       // 제목 업데이트
@@ -116,6 +126,8 @@ public class MedicalService {
 
         // 4. 저장 후 업데이트 완료 처리
         medicalRepository.save(medical);
+        changedDates.add(medical.getVisitDate());
+        publishMedicalChanged(medical.getCat().getId(), changedDates);
     }
 
     /**
@@ -124,9 +136,16 @@ public class MedicalService {
      * @param medicalId 삭제할 의료 기록 ID (Primary Key)
      */
     public void deleteMedicalRecord(Long medicalId) {
-        if (!medicalRepository.existsById(medicalId)) {
-            throw new IllegalArgumentException("해당 ID의 의료 기록을 찾을 수 없습니다. ID: " + medicalId);
-        }
-        medicalRepository.deleteById(medicalId);
+        Medical medical = medicalRepository.findById(medicalId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 의료 기록을 찾을 수 없습니다. ID: " + medicalId));
+        medicalRepository.delete(medical);
+        publishMedicalChanged(medical.getCat().getId(), Set.of(medical.getVisitDate()));
+    }
+
+    /**
+     * 의료 기록이 변경된 날짜를 담은 변경 이벤트를 발행하는 메서드 (DashboardCache가 메인 페이지 항목을 무효화)
+     */
+    private void publishMedicalChanged(Long catId, Set<LocalDate> visitDates) {
+        eventPublisher.publishEvent(new CatDataChangedEvent(catId, CatDataChangedEvent.DataType.MEDICAL, visitDates));
     }
 }
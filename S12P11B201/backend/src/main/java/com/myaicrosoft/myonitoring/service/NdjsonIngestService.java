@@ -0,0 +1,268 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.myaicrosoft.myonitoring.model.dto.DataCollectionBatchResponse;
+import com.myaicrosoft.myonitoring.model.dto.DataCollectionRequest;
+import com.myaicrosoft.myonitoring.model.dto.NdjsonIngestResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NDJSON(한 줄에 레코드 하나) 스트리밍 수집 서비스 클래스
+ * - Jackson 스트리밍 파서(MappingIterator)로 본문을 레코드 단위로 읽어 바로 DTO로 변환하고,
+ *   정해진 개수만큼 모이면 저장하므로 업로드 크기와 관계없이 메모리 사용량이 청크 크기로 고정됩니다.
+ * - 값의 형식 오류(타입 불일치 등)와 검증 실패는 해당 줄만 거부하고 다음 줄을 계속 처리합니다.
+ * - JSON 문법 오류는 파서가 다음 줄을 안전하게 찾을 수 없으므로 그 줄에서 중단하고,
+ *   기기가 다음 줄부터 다시 보낼 수 있도록 재개 줄 번호(resumeFromLine)를 반환합니다.
+ * - 기기의 전송 속도 제한에 걸리면 그 줄에서 중단하고, 재개 줄 번호와 함께 429(Retry-After)로 응답합니다.
+ */
+@Slf4j
+@Service
+public class NdjsonIngestService {
+
+    private static final int MAX_STRING_LENGTH = 64 * 1024; // 레코드 안 문자열 값의 최대 길이 (문자 수)
+    private static final int MAX_REJECTED_DETAILS = 1000;   // 응답에 포함할 거부 줄 최대 개수
+    private static final int MAX_LINE_RANGES = 1000;        // 응답에 포함할 저장/중복 줄 번호 구간 최대 개수
+
+    private final DataCollectionService dataCollectionService;
+    private final IngestRateLimiter ingestRateLimiter;
+    private final ObjectReader recordReader;
+    private final JsonFactory jsonFactory;
+    private final int chunkSize;
+
+    public NdjsonIngestService(DataCollectionService dataCollectionService,
+                               IngestRateLimiter ingestRateLimiter,
+                               ObjectMapper objectMapper,
+                               @Value("${ingest.ndjson.chunk-size:500}") int chunkSize) {
+        this.dataCollectionService = dataCollectionService;
+        this.ingestRateLimiter = ingestRateLimiter;
+        this.recordReader = objectMapper.readerFor(DataCollectionRequest.class);
+        this.jsonFactory = objectMapper.getFactory().copy()
+                .setStreamReadConstraints(StreamReadConstraints.builder().maxStringLength(MAX_STRING_LENGTH).build());
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * NDJSON 본문을 읽으면서 청크 단위로 저장하는 메서드
+     * - 청크(시리얼 넘버별)마다 별도 트랜잭션으로 저장되므로, 중간에 실패해도 앞서 저장된 청크는 유지됩니다.
+     *   시퀀스 번호(seq)를 보내는 기기는 전체를 다시 보내도 중복 저장되지 않습니다.
+     *
+     * @param body 요청 본문 (UTF-8 NDJSON)
+     * @return 저장/중복/거부된 줄 번호 요약 (중단된 경우 재개 줄 번호 포함)
+     * @throws IOException 본문을 읽는 중 오류가 발생한 경우
+     */
+    public NdjsonIngestResponse ingest(InputStream body) throws IOException {
+        Summary summary = new Summary();
+        List<DataCollectionRequest> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<DataCollectionRequest> records = recordReader.readValues(jsonFactory.createParser(body))) {
+            while (true) {
+                long lineNumber;
+                DataCollectionRequest request;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                } catch (JacksonException e) {
+                    // 레코드 시작 전 문법 오류 (JSON이 아닌 줄): 오류가 난 줄을 거부하고 다음 줄부터 재개
+                    long errorLine = records.getCurrentLocation().getLineNr();
+                    summary.totalLines++;
+                    summary.reject(errorLine, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                    summary.resumeFromLine = errorLine + 1;
+                    break;
+                }
+
+                lineNumber = records.getParser().currentTokenLocation().getLineNr();
+                try {
+                    request = records.nextValue();
+                } catch (DatabindException e) {
+                    // 값의 형식 오류: MappingIterator가 레코드 끝까지 건너뛰므로 다음 줄을 계속 처리
+                    summary.totalLines++;
+                    summary.reject(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                    continue;
+                } catch (JacksonException e) {
+                    // 레코드 안의 문법 오류: 이후 토큰을 신뢰할 수 없으므로 중단 (오류가 다음 줄에서 발견되었으면 그 줄부터 재개)
+                    long errorLine = records.getCurrentLocation().getLineNr();
+                    summary.totalLines++;
+                    summary.reject(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                    summary.resumeFromLine = errorLine > lineNumber ? errorLine : lineNumber + 1;
+                    break;
+                }
+
+                summary.totalLines++;
+                try {
+                    dataCollectionService.validateRecord(request);
+                } catch (IllegalArgumentException e) {
+                    ingestRateLimiter.recordOutcome(request.getSerialNumber(), 0, 1);
+                    summary.reject(lineNumber, e.getMessage());
+                    continue;
+                }
+                long waitNanos = ingestRateLimiter.tryAcquire(List.of(request));
+                if (waitNanos > 0) {
+                    // 이 줄은 처리하지 않은 것으로 보고, 앞 줄까지 저장한 뒤 이 줄부터 재개하도록 안내
+                    summary.totalLines--;
+                    summary.resumeFromLine = lineNumber;
+                    summary.retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+                    break;
+                }
+                chunk.add(request);
+                chunkLines.add(lineNumber);
+
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, chunkLines, summary);
+                }
+            }
+        }
+        flush(chunk, chunkLines, summary);
+
+        log.info("NDJSON 수집 완료 - 줄 수: {}, 저장: {}, 중복: {}, 거부: {}, 재개 줄: {}",
+                summary.totalLines, summary.accepted, summary.duplicates, summary.rejected, summary.resumeFromLine);
+        return summary.toResponse();
+    }
+
+    /**
+     * 모아둔 레코드를 시리얼 넘버별로 저장하고 결과를 줄 번호 순서대로 기록하는 메서드
+     */
+    private void flush(List<DataCollectionRequest> chunk, List<Long> chunkLines, Summary summary) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Integer>> indicesBySerialNumber = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            indicesBySerialNumber.computeIfAbsent(chunk.get(i).getSerialNumber(), key -> new ArrayList<>()).add(i);
+        }
+
+        DataCollectionBatchResponse.Status[] statuses = new DataCollectionBatchResponse.Status[chunk.size()];
+        String[] messages = new String[chunk.size()];
+        for (Map.Entry<String, List<Integer>> entry : indicesBySerialNumber.entrySet()) {
+            List<Integer> indices = entry.getValue();
+            List<DataCollectionRequest> records = new ArrayList<>(indices.size());
+            indices.forEach(index -> records.add(chunk.get(index)));
+            try {
+                DataCollectionBatchResponse response = dataCollectionService.saveBatch(records);
+                for (DataCollectionBatchResponse.RecordResult result : response.getResults()) {
+                    int index = indices.get(result.getIndex());
+                    statuses[index] = result.getStatus();
+                    messages[index] = result.getMessage();
+                }
+            } catch (RuntimeException e) {
+                log.warn("NDJSON 청크 저장 실패 - 시리얼 넘버: {}, 레코드 수: {}, 에러: {}",
+                        entry.getKey(), records.size(), e.getMessage());
+                for (int index : indices) {
+                    statuses[index] = DataCollectionBatchResponse.Status.REJECTED;
+                    messages[index] = e.getMessage();
+                }
+            }
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            summary.record(chunkLines.get(i), statuses[i], messages[i]);
+            boolean rejected = statuses[i] == DataCollectionBatchResponse.Status.REJECTED;
+            ingestRateLimiter.recordOutcome(chunk.get(i).getSerialNumber(), rejected ? 0 : 1, rejected ? 1 : 0);
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * 처리 결과 집계 (저장/중복 줄은 구간으로 묶어 메모리 사용량을 줄임)
+     */
+    private static class Summary {
+        private long totalLines;
+        private long accepted;
+        private long rejected;
+        private long duplicates;
+        private final LineRanges acceptedLines = new LineRanges();
+        private final LineRanges duplicateLines = new LineRanges();
+        private final List<NdjsonIngestResponse.RejectedLine> rejectedLines = new ArrayList<>();
+        private Long resumeFromLine;    // 중단된 경우 기기가 다시 보내야 하는 첫 줄 번호
+        private Long retryAfterSeconds; // 전송 속도 제한으로 중단된 경우 재전송까지 기다릴 시간
+
+        private void record(long lineNumber, DataCollectionBatchResponse.Status status, String message) {
+            switch (status) {
+                case ACCEPTED:
+                    accepted++;
+                    acceptedLines.add(lineNumber);
+                    break;
+                case DUPLICATE:
+                    duplicates++;
+                    duplicateLines.add(lineNumber);
+                    break;
+                default:
+                    reject(lineNumber, message);
+            }
+        }
+
+        private void reject(long lineNumber, String message) {
+            rejected++;
+            if (rejectedLines.size() < MAX_REJECTED_DETAILS) {
+                rejectedLines.add(new NdjsonIngestResponse.RejectedLine(lineNumber, message));
+            }
+        }
+
+        private NdjsonIngestResponse toResponse() {
+            // 파싱 실패는 즉시, 저장 실패는 청크 저장 후 기록되므로 줄 번호 순으로 정렬
+            rejectedLines.sort(Comparator.comparingLong(NdjsonIngestResponse.RejectedLine::getLine));
+            List<String> accepted = acceptedLines.toList();
+            List<String> duplicates = duplicateLines.toList();
+            return new NdjsonIngestResponse(totalLines, this.accepted, rejected, this.duplicates,
+                    accepted, duplicates, acceptedLines.truncated || duplicateLines.truncated,
+                    rejectedLines, rejected > rejectedLines.size(), resumeFromLine, retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 오름차순으로 추가되는 줄 번호를 "시작-끝" 구간 문자열로 묶는 클래스 (최대 구간 수까지만 보관)
+     */
+    private static class LineRanges {
+        private final List<String> ranges = new ArrayList<>();
+        private long start = -1;
+        private long end = -1;
+        private boolean truncated;
+
+        private void add(long lineNumber) {
+            if (start >= 0 && lineNumber == end + 1) {
+                end = lineNumber;
+                return;
+            }
+            close();
+            start = lineNumber;
+            end = lineNumber;
+        }
+
+        private void close() {
+            if (start < 0) {
+                return;
+            }
+            if (ranges.size() >= MAX_LINE_RANGES) {
+                truncated = true;
+                return;
+            }
+            ranges.add(start == end ? String.valueOf(start) : start + "-" + end);
+        }
+
+        private List<String> toList() {
+            close();
+            start = -1;
+            return ranges;
+        }
+    }
+}
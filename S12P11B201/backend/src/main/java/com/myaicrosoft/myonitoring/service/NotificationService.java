@@ -2,11 +2,14 @@ package com.myaicrosoft.myonitoring.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
+import com.myaicrosoft.myonitoring.event.CatDataChangedEvent;
 import com.myaicrosoft.myonitoring.model.entity.NotificationLog;
 import com.myaicrosoft.myonitoring.model.entity.Cat;
 import com.google.firebase.messaging.FirebaseMessaging;
@@ -22,6 +25,7 @@ public class NotificationService {
     
     private final FcmTokenService fcmTokenService;
     private final NotificationLogRepository notificationLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * FCM 토큰 기반 알림 전송 (로그 미저장)
@@ -45,8 +49,15 @@ public class NotificationService {
      * FCM 토큰 기반 알림 전송 및 로그 저장
      */
     public void sendNotificationWithLog(Cat cat, String title, String body, NotificationCategory category) {
+        sendNotificationWithLog(cat.getDevice().getUser().getId(), cat, cat.getName(), title, body, category);
+    }
+
+    /**
+     * FCM 토큰 기반 알림 전송 및 로그 저장 (소유자 ID와 이름을 이미 알고 있는 경우)
+     * - cat은 로그의 연관관계 설정에만 사용하므로 getReferenceById로 얻은 프록시여도 추가 조회가 없습니다.
+     */
+    public void sendNotificationWithLog(Long userId, Cat cat, String catName, String title, String body, NotificationCategory category) {
         try {
-            Long userId = cat.getDevice().getUser().getId();
             List<String> userTokens = fcmTokenService.getActiveTokensByUserId(userId);
             
             // FCM 토큰이 있는 경우에만 알림 전송 시도
@@ -64,12 +75,15 @@ public class NotificationService {
                     .message(body)
                     .build();
             notificationLogRepository.save(notificationLog);
+            // 알림 로그 화면의 ETag 갱신 (CatDataVersionService)
+            eventPublisher.publishEvent(new CatDataChangedEvent(cat.getId(), CatDataChangedEvent.DataType.NOTIFICATION,
+                    Set.of(notificationLog.getNotificationDateTime().toLocalDate())));
             
-            log.info("알림 로그 저장 완료 - 고양이: {}, 카테고리: {}", cat.getName(), category);
+            log.info("알림 로그 저장 완료 - 고양이: {}, 카테고리: {}", catName, category);
 
         } catch (Exception e) {
             log.error("알림 처리 중 오류 발생 - 고양이: {}, 카테고리: {}, 에러: {}", 
-                    cat.getName(), category, e.getMessage());
+                    catName, category, e.getMessage());
             throw e;
         }
     }
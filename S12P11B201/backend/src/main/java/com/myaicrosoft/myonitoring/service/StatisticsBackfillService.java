@@ -0,0 +1,310 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.config.AsyncConfig;
+import com.myaicrosoft.myonitoring.event.StatisticsUpdatedEvent;
+import com.myaicrosoft.myonitoring.model.dto.CatDailyIntakeDto;
+import com.myaicrosoft.myonitoring.model.dto.StatisticsBackfillStatusDto;
+import com.myaicrosoft.myonitoring.repository.CatRepository;
+import com.myaicrosoft.myonitoring.repository.IntakeRepository;
+import com.myaicrosoft.myonitoring.repository.StatisticsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.LongStream;
+
+/**
+ * 과거 통계 재계산(백필) 서비스 클래스
+ * - 수집이 중단되었거나 기기가 과거 데이터를 다시 보내 잘못되거나 빠진 통계를 날짜 범위와 고양이 단위로 다시 계산합니다.
+ * - 다음 날 통계가 전날 통계의 구간 합계와 changeDays를 이어받으므로, 날짜 순서대로 하루씩 기존 통계를 지우고 다시 만듭니다.
+ * - 스레드 하나에서 청크(고양이 ID 구간)마다 따로 커밋하고 청크 사이에 쉬므로 운영 트래픽과 DB 커넥션을 거의 점유하지 않습니다.
+ */
+@Slf4j
+@Service
+public class StatisticsBackfillService {
+
+    private static final int WINDOW_DAYS = 30; // 가장 긴 구간 (재계산한 날짜가 이후 통계에 영향을 주는 기간)
+
+    private final StatisticsService statisticsService;
+    private final StatisticsJobService statisticsJobService;
+    private final CatRepository catRepository;
+    private final IntakeRepository intakeRepository;
+    private final StatisticsRepository statisticsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final int maxDays;
+
+    private volatile Progress current; // 마지막으로 시작한 재계산 (없으면 null)
+
+    public StatisticsBackfillService(StatisticsService statisticsService,
+                                     StatisticsJobService statisticsJobService,
+                                     CatRepository catRepository,
+                                     IntakeRepository intakeRepository,
+                                     StatisticsRepository statisticsRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Qualifier(AsyncConfig.BACKFILL_EXECUTOR) Executor executor,
+                                     @Value("${statistics.backfill.chunk-size:200}") int chunkSize,
+                                     @Value("${statistics.backfill.pause-millis:100}") long pauseMillis,
+                                     @Value("${statistics.backfill.max-days:366}") int maxDays) {
+        this.statisticsService = statisticsService;
+        this.statisticsJobService = statisticsJobService;
+        this.catRepository = catRepository;
+        this.intakeRepository = intakeRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * 과거 통계 재계산을 백그라운드에서 시작하는 메서드
+     * - 요청한 끝 날짜 이후 최대 30일(어제까지)의 통계도 재계산된 날짜를 구간에 포함하므로 함께 다시 계산합니다.
+     *
+     * @param startDate 재계산 시작 날짜
+     * @param endDate   재계산 끝 날짜 (null이면 어제)
+     * @param catIds    재계산할 고양이 ID 목록 (null이거나 비어 있으면 전체 고양이)
+     * @return 시작 시점의 진행 상황 (DTO)
+     * @throws IllegalArgumentException 날짜 범위가 올바르지 않은 경우
+     * @throws IllegalStateException    이미 실행 중인 재계산이 있는 경우
+     */
+    public synchronized StatisticsBackfillStatusDto start(LocalDate startDate, LocalDate endDate, List<Long> catIds) {
+        if (current != null && current.state == State.RUNNING) {
+            throw new IllegalStateException("이미 실행 중인 통계 재계산이 있습니다.");
+        }
+
+        LocalDate yesterday = LocalDate.now().minusDays(1); // 오늘 통계는 아직 만들 수 없음
+        LocalDate requestedEnd = endDate != null ? endDate : yesterday;
+        if (startDate == null) {
+            throw new IllegalArgumentException("재계산 시작 날짜는 필수입니다.");
+        }
+        if (startDate.isAfter(requestedEnd)) {
+            throw new IllegalArgumentException("재계산 시작 날짜가 끝 날짜보다 늦습니다.");
+        }
+        if (requestedEnd.isAfter(yesterday)) {
+            throw new IllegalArgumentException("어제 이후의 통계는 재계산할 수 없습니다. 끝 날짜: " + requestedEnd);
+        }
+        if (ChronoUnit.DAYS.between(startDate, requestedEnd) + 1 > maxDays) {
+            throw new IllegalArgumentException("한 번에 재계산할 수 있는 기간은 최대 " + maxDays + "일입니다.");
+        }
+
+        LocalDate recomputeEnd = recomputeEndDate(requestedEnd);
+        List<Long> targetCatIds = catIds == null || catIds.isEmpty()
+                ? null
+                : catIds.stream().distinct().sorted().toList();
+
+        Progress progress = new Progress(startDate, requestedEnd, recomputeEnd, targetCatIds);
+        current = progress;
+        executor.execute(() -> run(progress));
+        log.info("통계 재계산 시작 - 기간: {}~{} (연쇄 재계산 끝: {}), 고양이: {}",
+                startDate, requestedEnd, recomputeEnd, targetCatIds == null ? "전체" : targetCatIds.size() + "마리");
+        return progress.toDto();
+    }
+
+    /**
+     * 실행 중인 재계산을 취소하는 메서드 (진행 중인 청크까지 커밋한 뒤 멈춤)
+     *
+     * @return 현재 진행 상황 (DTO)
+     */
+    public StatisticsBackfillStatusDto cancel() {
+        Progress progress = current;
+        if (progress != null && progress.state == State.RUNNING) {
+            progress.cancelRequested = true;
+        }
+        return getStatus();
+    }
+
+    /**
+     * 마지막으로 시작한 재계산의 진행 상황을 조회하는 메서드
+     *
+     * @return 진행 상황 (DTO, 재계산을 시작한 적이 없으면 IDLE)
+     */
+    public StatisticsBackfillStatusDto getStatus() {
+        Progress progress = current;
+        if (progress == null) {
+            return new StatisticsBackfillStatusDto(State.IDLE.name(), null, null, null, null,
+                    0, 0, null, 0, 0, null, null, null);
+        }
+        return progress.toDto();
+    }
+
+    /**
+     * 시작 날짜부터 하루씩 순서대로 재계산하는 메서드 (재계산 전용 스레드에서 실행)
+     * - 한 날짜라도 실패하면 이후 날짜가 잘못된 구간 합계를 이어받지 않도록 중단합니다.
+     */
+    private void run(Progress progress) {
+        LocalDate statDate = progress.startDate;
+        try {
+            Long maxId = progress.catIds == null ? catRepository.findMaxId() : null;
+            // 재계산 도중 자정이 지나면 새로 생성된 어제 통계도 재계산된 구간을 이어받도록 끝 날짜를 늘림
+            for (; !statDate.isAfter(progress.extendTo(recomputeEndDate(progress.endDate))); statDate = statDate.plusDays(1)) {
+                progress.currentDate = statDate;
+                if (!recomputeDate(progress, statDate, maxId)) {
+                    progress.finish(State.CANCELLED, "관리자 요청으로 취소되었습니다. 마지막 완료 날짜: " + statDate.minusDays(1));
+                    log.info("통계 재계산 취소 - 날짜: {}", statDate);
+                    return;
+                }
+                progress.completedDays++;
+                log.info("통계 재계산 진행 - 날짜: {} ({}/{}), 삭제: {}, 생성: {}", statDate,
+                        progress.completedDays, progress.totalDays, progress.deletedStatistics, progress.createdStatistics);
+            }
+            progress.currentDate = null;
+            progress.finish(State.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.error("통계 재계산 실패 - 날짜: {}, 에러: {}", statDate, e.getMessage(), e);
+            progress.finish(State.FAILED, statDate + " 통계 재계산에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 요청한 끝 날짜 이후 구간 합계가 이어지는 마지막 날짜 (최대 30일 뒤, 어제까지)
+     */
+    private LocalDate recomputeEndDate(LocalDate endDate) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate recomputeEnd = endDate.plusDays(WINDOW_DAYS);
+        return recomputeEnd.isAfter(yesterday) ? yesterday : recomputeEnd;
+    }
+
+    /**
+     * 하루치 통계를 청크 단위로 재계산하는 메서드
+     *
+     * @return 끝까지 처리했으면 true, 취소 요청으로 멈췄으면 false
+     */
+    private boolean recomputeDate(Progress progress, LocalDate statDate, Long maxId) {
+        if (progress.catIds != null) {
+            for (int from = 0; from < progress.catIds.size(); from += chunkSize) {
+                List<Long> chunk = progress.catIds.subList(from, Math.min(from + chunkSize, progress.catIds.size()));
+                if (!recomputeChunk(progress, statDate, chunk.get(0), chunk.get(chunk.size() - 1), new HashSet<>(chunk))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (maxId == null) {
+            return true; // 고양이가 없음
+        }
+        for (long start = 1; start <= maxId; start += chunkSize) {
+            if (!recomputeChunk(progress, statDate, start, start + chunkSize - 1, null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 청크 하나의 기존 통계를 지우고 다시 생성하는 메서드
+     * - 삭제와 생성을 한 트랜잭션으로 처리하므로 실패해도 기존 통계가 그대로 남습니다.
+     * - 자정 통계 작업과 겹치지 않도록 StatisticsJobService의 쓰기 잠금 안에서 실행하고, 잠금을 놓은 뒤 쉽니다.
+     *
+     * @param catIds 재계산할 고양이 ID (null이면 ID 구간의 모든 고양이)
+     * @return 계속 진행해도 되면 true, 취소 요청이 있으면 false
+     */
+    private boolean recomputeChunk(Progress progress, LocalDate statDate, long startId, long endId, Set<Long> catIds) {
+        if (progress.cancelRequested) {
+            return false;
+        }
+
+        statisticsJobService.runExclusively(() -> transactionTemplate.execute(status -> {
+            int deleted = catIds == null
+                    ? statisticsRepository.deleteByStatDateAndCatIdBetween(statDate, startId, endId)
+                    : statisticsRepository.deleteByStatDateAndCatIdIn(statDate, catIds);
+            // 섭취 기록이 없는 고양이는 통계를 만들지 않으므로 삭제만 됨
+            List<CatDailyIntakeDto> totals = intakeRepository.sumIntakeAmountByCat(
+                    statDate.atStartOfDay(), statDate.plusDays(1).atStartOfDay(), startId, endId);
+            if (catIds != null) {
+                totals = totals.stream().filter(total -> catIds.contains(total.getCatId())).toList();
+            }
+            int created = statisticsService.upsertStatistics(statDate, totals);
+            // 삭제만 된 고양이의 통계 화면도 무효화 (커밋 이후 DashboardCache가 처리)
+            eventPublisher.publishEvent(new StatisticsUpdatedEvent(statDate, catIds != null
+                    ? catIds
+                    : LongStream.rangeClosed(startId, endId).boxed().toList()));
+            progress.deletedStatistics += deleted;
+            progress.createdStatistics += created;
+            return null;
+        }));
+
+        // 운영 트래픽이 DB를 사용할 수 있도록 청크 사이에 쉼
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    private enum State {
+        IDLE,      // 재계산을 시작한 적 없음
+        RUNNING,   // 실행 중
+        COMPLETED, // 완료
+        CANCELLED, // 취소됨
+        FAILED     // 실패 (실패한 날짜 이후는 재계산하지 않음)
+    }
+
+    /**
+     * 재계산 진행 상황 (재계산 스레드만 갱신하고, 조회 API는 volatile 필드를 읽음)
+     */
+    private static class Progress {
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final List<Long> catIds;
+        private volatile LocalDate recomputeEndDate;
+        private volatile long totalDays;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile State state = State.RUNNING;
+        private volatile boolean cancelRequested;
+        private volatile long completedDays;
+        private volatile LocalDate currentDate;
+        private volatile long deletedStatistics;
+        private volatile long createdStatistics;
+        private volatile LocalDateTime finishedAt;
+        private volatile String message;
+
+        private Progress(LocalDate startDate, LocalDate endDate, LocalDate recomputeEndDate, List<Long> catIds) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.recomputeEndDate = recomputeEndDate;
+            this.catIds = catIds;
+            this.totalDays = ChronoUnit.DAYS.between(startDate, recomputeEndDate) + 1;
+        }
+
+        private LocalDate extendTo(LocalDate recomputeEndDate) {
+            if (recomputeEndDate.isAfter(this.recomputeEndDate)) {
+                this.totalDays = ChronoUnit.DAYS.between(startDate, recomputeEndDate) + 1;
+                this.recomputeEndDate = recomputeEndDate;
+            }
+            return this.recomputeEndDate;
+        }
+
+        private void finish(State state, String message) {
+            this.message = message;
+            this.finishedAt = LocalDateTime.now();
+            this.state = state;
+        }
+
+        private StatisticsBackfillStatusDto toDto() {
+            return new StatisticsBackfillStatusDto(state.name(), startDate, endDate, recomputeEndDate,
+                    catIds == null ? null : new ArrayList<>(catIds), totalDays, completedDays, currentDate,
+                    deletedStatistics, createdStatistics, startedAt, finishedAt, message);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.myaicrosoft.myonitoring.service;
+
+import com.myaicrosoft.myonitoring.config.AsyncConfig;
+import com.myaicrosoft.myonitoring.model.dto.CatDailyIntakeDto;
+import com.myaicrosoft.myonitoring.model.entity.StatisticsJobChunk;
+import com.myaicrosoft.myonitoring.repository.CatRepository;
+import com.myaicrosoft.myonitoring.repository.IntakeRepository;
+import com.myaicrosoft.myonitoring.repository.StatisticsJobChunkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 일간 통계 생성 작업 서비스 클래스
+ * - 고양이를 ID 구간(청크)으로 나누어 정해진 수의 스레드에서 병렬로 처리하고, 청크마다 따로 커밋합니다.
+ * - 청크 진행 상태(stat_job_chunks)를 통계와 같은 트랜잭션에 기록하므로, 작업 도중 서버가 종료되어도
+ *   다음 기동 시 완료되지 않은 청크만 이어서 처리하며 이미 저장된 통계를 다시 만들지 않습니다.
+ * - 통계를 쓰는 작업은 DB 작업 잠금(job_locks)으로 직렬화하므로, 백엔드를 여러 인스턴스로 실행해도
+ *   같은 날짜의 통계를 동시에 만들지 않습니다. 늦게 잠금을 얻은 인스턴스는 남은 청크가 없어 바로 끝납니다.
+ */
+@Slf4j
+@Service
+public class StatisticsJobService {
+
+    private static final String LOCK_NAME = "statistics"; // 통계 쓰기 작업 잠금 이름
+
+    private final StatisticsService statisticsService;
+    private final CatRepository catRepository;
+    private final IntakeRepository intakeRepository;
+    private final StatisticsJobChunkRepository chunkRepository;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int chunkSize;
+    private final Duration lockWait;
+    private final ReentrantLock writeLock = new ReentrantLock(); // 같은 인스턴스 안의 통계 쓰기 작업(일간 작업, 재계산)을 직렬화
+
+    public StatisticsJobService(StatisticsService statisticsService,
+                                CatRepository catRepository,
+                                IntakeRepository intakeRepository,
+                                StatisticsJobChunkRepository chunkRepository,
+                                JobLockService jobLockService,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier(AsyncConfig.STATISTICS_EXECUTOR) Executor executor,
+                                @Value("${statistics.job.chunk-size:500}") int chunkSize,
+                                @Value("${statistics.job.lock-wait-seconds:600}") long lockWaitSeconds) {
+        this.statisticsService = statisticsService;
+        this.catRepository = catRepository;
+        this.intakeRepository = intakeRepository;
+        this.chunkRepository = chunkRepository;
+        this.jobLockService = jobLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.lockWait = Duration.ofSeconds(lockWaitSeconds);
+    }
+
+    /**
+     * 매일 자정에 실행되는 스케줄링 작업 (전날 통계 생성)
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public void calculateDailyStatistics() {
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1); // 전날 날짜 계산
+        run(yesterday);
+    }
+
+    /**
+     * 서버 기동 시 이전 실행에서 완료되지 않은 청크를 이어서 처리하는 메서드
+     * - 다른 인스턴스가 통계 작업 중이면 기동을 늦추지 않도록 기다리지 않고 건너뜁니다. (남은 청크는 다음 실행 때 처리됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingChunks() {
+        if (!writeLock.tryLock()) {
+            return;
+        }
+        try {
+            jobLockService.runIfAvailable(LOCK_NAME, Duration.ZERO, this::doProcessPendingChunks);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 특정 날짜의 통계 생성 작업을 실행하는 메서드
+     * - 해당 날짜의 청크가 이미 등록되어 있으면 남은 청크만 처리합니다.
+     *
+     * @param statDate 통계를 생성할 날짜
+     */
+    public void run(LocalDate statDate) {
+        planChunks(statDate);
+        processPendingChunks();
+    }
+
+    /**
+     * 고양이 ID 구간을 청크 크기로 나누어 PENDING 상태로 등록하는 메서드
+     */
+    private void planChunks(LocalDate statDate) {
+        if (chunkRepository.existsByStatDate(statDate)) {
+            return;
+        }
+        Long maxId = catRepository.findMaxId();
+        if (maxId == null) {
+            return; // 고양이가 없음
+        }
+
+        List<StatisticsJobChunk> chunks = new ArrayList<>();
+        for (long start = 1; start <= maxId; start += chunkSize) {
+            chunks.add(StatisticsJobChunk.builder()
+                    .statDate(statDate)
+                    .rangeStart(start)
+                    .rangeEnd(start + chunkSize - 1)
+                    .status(StatisticsJobChunk.Status.PENDING)
+                    .build());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunkRepository.saveAll(chunks));
+            log.info("통계 작업 청크 등록 - 날짜: {}, 청크 수: {}, 최대 고양이 ID: {}", statDate, chunks.size(), maxId);
+        } catch (DataIntegrityViolationException e) {
+            log.info("통계 작업 청크가 이미 등록되어 있습니다. 날짜: {}", statDate);
+        }
+    }
+
+    /**
+     * PENDING 청크를 날짜 순서대로 처리하는 메서드
+     * - 같은 날짜의 청크는 병렬로 처리하고, 다음 날짜는 앞 날짜가 끝난 뒤 처리합니다.
+     *   (다음 날 통계가 전날 통계의 구간 합계와 changeDays를 이어받기 때문)
+     * - 한 날짜라도 실패한 청크가 있으면 이후 날짜는 처리하지 않고 PENDING으로 남겨, 다음 실행 때 실패한 날짜부터 다시 처리합니다.
+     * - 동시에 두 번 실행되지 않도록 직렬화합니다. (자정 작업과 기동 시 재개, 과거 통계 재계산이 겹치는 경우)
+     */
+    private void processPendingChunks() {
+        runExclusively(() -> {
+            doProcessPendingChunks();
+            return null;
+        });
+    }
+
+    /**
+     * 다른 통계 쓰기 작업(다른 인스턴스 포함)과 겹치지 않도록 작업을 실행하는 메서드
+     * - 과거 통계 재계산(StatisticsBackfillService)은 청크 하나씩 이 메서드로 실행하므로,
+     *   자정 작업은 재계산이 끝날 때까지 기다리지 않고 청크 사이에 끼어들어 실행됩니다.
+     *
+     * @param task 통계를 쓰는 작업
+     * @return 작업 결과
+     * @throws IllegalStateException 대기 시간 안에 작업 잠금을 얻지 못한 경우
+     */
+    public <T> T runExclusively(Supplier<T> task) {
+        writeLock.lock();
+        try {
+            return jobLockService.runWhenAvailable(LOCK_NAME, lockWait, task);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void doProcessPendingChunks() {
+        Map<LocalDate, List<StatisticsJobChunk>> chunksByDate = new TreeMap<>();
+        for (StatisticsJobChunk chunk : chunkRepository.findByStatusOrderByStatDateAscRangeStartAsc(StatisticsJobChunk.Status.PENDING)) {
+            chunksByDate.computeIfAbsent(chunk.getStatDate(), key -> new ArrayList<>()).add(chunk);
+        }
+
+        for (Map.Entry<LocalDate, List<StatisticsJobChunk>> entry : chunksByDate.entrySet()) {
+            long startedAt = System.currentTimeMillis();
+            AtomicInteger failed = new AtomicInteger();
+            CompletableFuture<?>[] futures = entry.getValue().stream()
+                    .map(chunk -> CompletableFuture.runAsync(() -> {
+                        if (!processChunk(chunk)) {
+                            failed.incrementAndGet();
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+
+            log.info("통계 작업 완료 - 날짜: {}, 청크 수: {}, 실패: {}, 소요 시간: {}ms",
+                    entry.getKey(), futures.length, failed.get(), System.currentTimeMillis() - startedAt);
+            if (failed.get() > 0) {
+                // 실패한 청크의 통계가 없으면 다음 날짜가 잘못된 구간 합계와 changeDays를 이어받으므로 중단
+                log.warn("실패한 청크가 있어 이후 날짜의 통계 작업을 중단합니다. 날짜: {}", entry.getKey());
+                break;
+            }
+        }
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 처리하는 메서드
+     * - 섭취 기록을 고양이별로 DB에서 합산하므로 섭취/고양이 엔티티를 로딩하지 않습니다.
+     * - 통계는 upsert로 저장하므로, 청크 상태와 통계가 어긋나거나 같은 청크를 다시 처리해도 중복 저장되지 않습니다.
+     * - 실패하면 청크 전체가 롤백되고 PENDING으로 남아 다음 실행 때 다시 처리됩니다.
+     *
+     * @return 성공 여부
+     */
+    private boolean processChunk(StatisticsJobChunk chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 청크의 고양이별 총 섭취량을 한 번에 집계 (섭취 기록이 없는 고양이는 통계를 만들지 않으므로 제외됨)
+                List<CatDailyIntakeDto> totals = intakeRepository.sumIntakeAmountByCat(
+                        chunk.getStatDate().atStartOfDay(), chunk.getStatDate().plusDays(1).atStartOfDay(),
+                        chunk.getRangeStart(), chunk.getRangeEnd());
+                statisticsService.upsertStatistics(chunk.getStatDate(), totals);
+                chunk.setStatus(StatisticsJobChunk.Status.DONE);
+                chunk.setCompletedAt(LocalDateTime.now());
+                chunkRepository.save(chunk);
+            });
+            return true;
+        } catch (RuntimeException e) {
+            log.error("통계 작업 청크 처리 실패 - 날짜: {}, 고양이 ID: {}~{}, 에러: {}",
+                    chunk.getStatDate(), chunk.getRangeStart(), chunk.getRangeEnd(), e.getMessage(), e);
+            return false;
+        }
+    }
+}
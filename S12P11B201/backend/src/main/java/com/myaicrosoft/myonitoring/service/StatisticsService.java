@@ -1,107 +1,189 @@
 package com.myaicrosoft.myonitoring.service;
 
-import lombok.RequiredArgsConstructor;
+import com.myaicrosoft.myonitoring.event.StatisticsUpdatedEvent;
 import com.myaicrosoft.myonitoring.model.dto.StatisticsResponseDto;
+import com.myaicrosoft.myonitoring.model.dto.CatDailyIntakeDto;
 import com.myaicrosoft.myonitoring.model.entity.Cat;
-import com.myaicrosoft.myonitoring.model.entity.Intake;
 import com.myaicrosoft.myonitoring.model.entity.Statistics;
 import com.myaicrosoft.myonitoring.repository.CatRepository;
-import com.myaicrosoft.myonitoring.repository.IntakeRepository;
 import com.myaicrosoft.myonitoring.repository.StatisticsRepository;
-import org.springframework.scheduling.annotation.Scheduled;
+import com.myaicrosoft.myonitoring.service.detector.IntakeAnomalyDetector;
+import com.myaicrosoft.myonitoring.service.detector.IntakeDetectionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * StatisticsService
- * - 매일 자정에 실행되는 스케줄링 작업을 통해 통계 데이터를 생성합니다.
+ * - 고양이별 일간 통계를 생성하고 조회합니다.
+ * - 매일 자정의 전체 생성 작업은 StatisticsJobService가 고양이 ID 구간(청크) 단위로 나누어 실행합니다.
+ * - 증감 상태(changeStatus)는 고양이마다 선택한 섭취량 이상 감지기(service.detector)가 판정합니다.
  */
 @Service
-@RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성
 public class StatisticsService {
 
-    private final IntakeRepository intakeRepository; // 섭취 데이터를 조회하는 Repository
+    // 평균은 1/100, 증감률은 1/10000 단위 정수(고정소수점)로 계산해 연산마다 BigDecimal을 만들지 않음
+    private static final int AVERAGE_SCALE = 2;
+    private static final int RATE_SCALE = 4;
+    private static final long RATE_UNIT = 10_000;
+
     private final StatisticsRepository statisticsRepository; // 통계 데이터를 저장하는 Repository
     private final CatRepository catRepository; // 고양이 정보를 조회하는 Repository
+    private final Map<Cat.AnomalyDetector, IntakeAnomalyDetector> detectors = new EnumMap<>(Cat.AnomalyDetector.class);
+    private final Cat.AnomalyDetector defaultDetector; // 감지 방식을 지정하지 않은 고양이에 사용
+    private final DashboardCache dashboardCache; // 통계 조회 응답 캐시
+    private final ApplicationEventPublisher eventPublisher; // 캐시 무효화 이벤트 발행
 
-    /**
-     * 매일 자정에 실행되는 스케줄링 작업
-     */
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
-    public void calculateDailyStatistics() {
-        LocalDate today = LocalDate.now();
-        LocalDate yesterday = today.minusDays(1); // 전날 날짜 계산
-
-        // 모든 고양이에 대해 통계 생성
-        List<Cat> cats = catRepository.findAll();
-        for (Cat cat : cats) {
-            createStatisticsForCat(cat, yesterday);
+    public StatisticsService(StatisticsRepository statisticsRepository,
+                             CatRepository catRepository,
+                             List<IntakeAnomalyDetector> detectors,
+                             @Value("${statistics.detector.default:THRESHOLD}") Cat.AnomalyDetector defaultDetector,
+                             DashboardCache dashboardCache,
+                             ApplicationEventPublisher eventPublisher) {
+        this.statisticsRepository = statisticsRepository;
+        this.catRepository = catRepository;
+        this.dashboardCache = dashboardCache;
+        this.eventPublisher = eventPublisher;
+        detectors.forEach(detector -> this.detectors.put(detector.getType(), detector));
+        for (Cat.AnomalyDetector type : Cat.AnomalyDetector.values()) {
+            if (!this.detectors.containsKey(type)) {
+                throw new IllegalStateException("섭취량 이상 감지기가 등록되지 않았습니다: " + type);
+            }
         }
+        this.defaultDetector = defaultDetector;
     }
 
     /**
-     * 특정 고양이에 대한 통계를 생성하는 메서드
+     * 여러 고양이의 하루치 통계를 한 번에 생성하거나 갱신하는 메서드 (upsert)
+     * - (고양이, 날짜)마다 통계는 하나뿐이며(uk_stat_cat_date), 이미 있으면 다시 계산한 값으로 덮어쓰므로
+     *   같은 날짜를 여러 번 실행해도 결과가 같습니다.
+     * - 통계 날짜와 전날, 7일 전, 30일 전 통계를 모든 고양이에 대해 한 번의 쿼리로 조회합니다.
+     *   고양이별 감지 방식도 한 번의 쿼리로 조회합니다.
+     * - 새 통계는 saveAll로 모아 JDBC 배치(rewriteBatchedStatements)로 여러 행을 한 번에 INSERT하고,
+     *   기존 통계는 변경 감지로 커밋 시 배치 UPDATE됩니다.
      *
-     * @param cat      고양이 정보
      * @param statDate 통계를 생성할 날짜 (전날)
+     * @param totals   고양이별 통계 날짜의 총 섭취량 (일간 통계 작업은 청크의 집계 쿼리 결과를 그대로 전달)
+     * @return 생성 또는 갱신한 통계 수
      */
-    private void createStatisticsForCat(Cat cat, LocalDate statDate) {
-        // 전날 섭취 데이터 조회
-        List<Intake> intakes = intakeRepository.findByCatIdAndDate(cat.getId(), statDate);
-
-        // 섭취 데이터가 없는 경우 저장하지 않음
-        if (intakes.isEmpty()) {
-            System.out.println("섭취 데이터가 없어 통계 데이터를 생성하지 않습니다. 고양이 ID: " + cat.getId() + ", 날짜: " + statDate);
-            return; // 메서드 종료
+    public int upsertStatistics(LocalDate statDate, List<CatDailyIntakeDto> totals) {
+        if (totals.isEmpty()) {
+            return 0;
+        }
+
+        // 고양이별로 통계 날짜(기존 통계), 전날(구간 합계), 7일 전/30일 전(구간에서 빠지는 날) 통계를 모음
+        List<Long> catIds = totals.stream().map(CatDailyIntakeDto::getCatId).toList();
+        Map<Long, Map<LocalDate, Statistics>> statsByCat = new HashMap<>();
+        statisticsRepository.findByCatIdInAndStatDateIn(catIds,
+                        List.of(statDate, statDate.minusDays(1), statDate.minusDays(7), statDate.minusDays(30)))
+                .forEach(stat -> statsByCat.computeIfAbsent(stat.getCat().getId(), key -> new HashMap<>())
+                        .putIfAbsent(stat.getStatDate(), stat));
+        Map<Long, Cat.AnomalyDetector> detectorByCat = new HashMap<>();
+        catRepository.findAnomalyDetectorsByIdIn(catIds)
+                .forEach(dto -> detectorByCat.put(dto.getCatId(), dto.getAnomalyDetector()));
+
+        List<Statistics> created = new ArrayList<>();
+        for (CatDailyIntakeDto total : totals) {
+            Map<LocalDate, Statistics> anchors = statsByCat.computeIfAbsent(total.getCatId(), key -> new HashMap<>());
+            Statistics statistics = anchors.get(statDate);
+            if (statistics == null) {
+                statistics = Statistics.builder()
+                        .cat(catRepository.getReferenceById(total.getCatId())) // ID만 사용하므로 조회 쿼리 없음
+                        .statDate(statDate)
+                        .build();
+                created.add(statistics);
+            }
+            calculateStatistics(statistics, total.getCatId(), statDate, total.getTotalIntake().intValue(), anchors,
+                    detectors.get(detectorByCat.getOrDefault(total.getCatId(), defaultDetector)));
         }
 
-        // 총 섭취량 계산
-        int totalIntake = intakes.stream()
-                .mapToInt(Intake::getIntakeAmount)
-                .sum();
+        statisticsRepository.saveAll(created); // 새 통계 저장 (기존 통계는 변경 감지로 갱신)
+        eventPublisher.publishEvent(new StatisticsUpdatedEvent(statDate, catIds)); // 커밋 이후 대시보드 캐시 무효화
+        return totals.size();
+    }
+
+    /**
+     * 통계 값을 계산해 엔티티에 채우는 메서드
+     * - 전날 통계에 저장된 7일/30일 구간 합계를 이어받아, 구간에 들어오는 날(statDate)과
+     *   빠지는 날(7일 전, 30일 전)만 더하고 빼서 평균을 계산합니다.
+     * - 전날 통계가 없거나 구간 합계가 없으면 최근 30일 통계를 한 번 조회해 구간을 다시 계산합니다.
+     * - 증감 상태는 선택한 감지기가 판정하고, 감지기 상태(EWMA, 요일별 기준선)는 모든 감지기가 갱신합니다.
+     *
+     * @param statistics  값을 채울 통계 (새 통계 또는 기존 통계)
+     * @param catId       고양이 ID
+     * @param statDate    통계 날짜
+     * @param totalIntake 통계 날짜의 총 섭취량
+     * @param anchors     고양이의 날짜별 통계 (전날, 7일 전, 30일 전)
+     * @param detector    고양이의 섭취량 이상 감지기
+     */
+    private void calculateStatistics(Statistics statistics, Long catId, LocalDate statDate, int totalIntake,
+                                     Map<LocalDate, Statistics> anchors, IntakeAnomalyDetector detector) {
+        Statistics previousStat = anchors.get(statDate.minusDays(1));
+        RollingWindow window = hasWindow(previousStat)
+                ? RollingWindow.of(previousStat)
+                : recomputeWindow(catId, statDate, anchors);
 
-        // 최근 7일과 30일 평균 섭취량 계산
-        BigDecimal avg7d = calculateAverageIntake(cat, statDate.minusDays(7), statDate.minusDays(1));
-        BigDecimal avg30d = calculateAverageIntake(cat, statDate.minusDays(30), statDate.minusDays(1));
+        // 최근 7일과 30일 평균 섭취량 계산 (statDate 이전 구간, 1/100 단위 정수)
+        long avg7d = window.average7d();
+        long avg30d = window.average30d();
 
-        // 증감률 계산 (0-1 범위로 저장)
-        BigDecimal change7d = calculateChangeRate(totalIntake, avg7d);
-        BigDecimal change30d = calculateChangeRate(totalIntake, avg30d);
+        // 증감률 계산 (0-1 범위, 1/10000 단위 정수)
+        long change7d = calculateChangeRate(totalIntake, avg7d);
+        long change30d = calculateChangeRate(totalIntake, avg30d);
 
-        // 증감 상태 계산 (20% 이상 증가: 1 / -20% 이하 감소: -1 / 그 외: 0)
-        int changeStatus = calculateChangeStatus(change30d);
+        // 증감 상태 판정 (증가 이상: 1 / 감소 이상: -1 / 그 외: 0)
+        Statistics weekAgoStat = anchors.get(statDate.minusDays(7));
+        IntakeDetectionContext context = new IntakeDetectionContext(totalIntake, change30d,
+                window.sum30d, window.count30d, window.sumSquares30d, previousStat, weekAgoStat);
+        int changeStatus = detector.detect(context);
 
         // changeDays 계산 로직 추가
-        int changeDays = calculateChangeDays(cat.getId(), statDate, changeStatus);
-
-        // Statistics 엔티티 생성 및 저장
-        Statistics statistics = Statistics.builder()
-                .cat(cat)
-                .statDate(statDate)
-                .totalIntake(totalIntake)
-                .change7d(change7d)
-                .change30d(change30d)
-                .average7d(avg7d) // 평균 섭취량 (최근 7일) 저장
-                .average30d(avg30d) // 평균 섭취량 (최근 30일) 저장
-                .changeStatus(changeStatus)
-                .changeDays(changeDays) // changedays 추가
-                .build();
-
-        statisticsRepository.save(statistics); // 통계 데이터 저장
+        int changeDays = calculateChangeDays(previousStat, changeStatus);
+
+        // statDate를 포함하는 다음 구간으로 이동
+        RollingWindow nextWindow = window.slide(totalIntake, weekAgoStat, anchors.get(statDate.minusDays(30)));
+
+        statistics.setTotalIntake(totalIntake);
+        // 저장할 때만 BigDecimal로 변환 (계산은 고정소수점 정수로 처리)
+        statistics.setChange7d(BigDecimal.valueOf(change7d, RATE_SCALE));
+        statistics.setChange30d(BigDecimal.valueOf(change30d, RATE_SCALE));
+        statistics.setAverage7d(BigDecimal.valueOf(avg7d, AVERAGE_SCALE)); // 평균 섭취량 (최근 7일) 저장
+        statistics.setAverage30d(BigDecimal.valueOf(avg30d, AVERAGE_SCALE)); // 평균 섭취량 (최근 30일) 저장
+        statistics.setChangeStatus(changeStatus);
+        statistics.setChangeDays(changeDays); // changedays 추가
+        statistics.setSum7d(nextWindow.sum7d);
+        statistics.setCount7d(nextWindow.count7d);
+        statistics.setSum30d(nextWindow.sum30d);
+        statistics.setCount30d(nextWindow.count30d);
+        statistics.setSumSquares30d(nextWindow.sumSquares30d);
+        for (IntakeAnomalyDetector each : detectors.values()) {
+            each.updateState(statistics, context);
+        }
     }
 
     /**
      * 특정 고양이의 통계 데이터를 조회하는 로직 (API용)
+     * - 응답은 DashboardCache에 캐시되며, 전날 통계가 생성되거나 갱신되면 무효화됩니다.
      *
      * @param catId 고양이 ID (Primary Key)
      * @param day   기준 날짜 (YYYY-MM-DD)
      * @return 통계 데이터 응답 DTO 반환
      */
     public StatisticsResponseDto getStatistics(Long catId, LocalDate day) {
+        return dashboardCache.get(catId, DashboardCache.View.STATISTICS, day, () -> loadStatistics(catId, day));
+    }
+
+    private StatisticsResponseDto loadStatistics(Long catId, LocalDate day) {
         // 기준 날짜의 전날 데이터 조회 (yesterday)
         LocalDate yesterday = day.minusDays(1);
         Statistics yesterdayStat = statisticsRepository.findByCatIdAndStatDate(catId, yesterday)
@@ -120,90 +202,157 @@ public class StatisticsService {
     }
 
     /**
-     * 평균 섭취량을 계산하는 메서드
-     *
-     * @param cat       고양이 정보
-     * @param startDate 시작 날짜
-     * @param endDate   종료 날짜
-     * @return 평균 섭취량 (BigDecimal)
+     * 통계에 구간 합계가 저장되어 있는지 확인하는 메서드
      */
-    private BigDecimal calculateAverageIntake(Cat cat, LocalDate startDate, LocalDate endDate) {
-        // StatisticsRepository 인스턴스를 통해 메서드 호출
-        List<Statistics> totalIntakes = statisticsRepository.findByCatIdAndStatDateRangeForAverage(cat.getId(), startDate, endDate);
+    private boolean hasWindow(Statistics stat) {
+        return stat != null && stat.getSum7d() != null && stat.getCount7d() != null
+                && stat.getSum30d() != null && stat.getCount30d() != null && stat.getSumSquares30d() != null;
+    }
 
-        if (totalIntakes.isEmpty()) {
-            return BigDecimal.ZERO; // 데이터가 없는 경우 0 반환
+    /**
+     * 전날 통계로 구간을 이어받을 수 없을 때, statDate 이전 30일 통계를 조회해 구간 합계를 다시 계산하는 메서드
+     *
+     * @param catId    고양이 ID
+     * @param statDate 통계를 생성할 날짜
+     * @param anchors  구간에서 빠지는 날의 통계를 찾기 위한 날짜별 통계 (조회한 통계로 보충)
+     * @return statDate 이전 7일/30일 구간 합계
+     */
+    private RollingWindow recomputeWindow(Long catId, LocalDate statDate, Map<LocalDate, Statistics> anchors) {
+        LocalDate sevenDaysAgo = statDate.minusDays(7);
+        RollingWindow window = new RollingWindow(0, 0, 0, 0, 0);
+        Set<LocalDate> countedDates = new HashSet<>();
+        for (Statistics stat : statisticsRepository.findByCatIdAndStatDateRange(catId, statDate.minusDays(30), statDate.minusDays(1))) {
+            if (!countedDates.add(stat.getStatDate())) {
+                continue; // 같은 날짜의 중복 통계는 한 번만 반영
+            }
+            anchors.putIfAbsent(stat.getStatDate(), stat);
+            window.sum30d += stat.getTotalIntake();
+            window.count30d++;
+            window.sumSquares30d += square(stat.getTotalIntake());
+            if (!stat.getStatDate().isBefore(sevenDaysAgo)) {
+                window.sum7d += stat.getTotalIntake();
+                window.count7d++;
+            }
         }
-
-        // 총 섭취량 계산
-        int totalAmount = totalIntakes.stream()
-                .mapToInt(Statistics::getTotalIntake) // 하루 총 섭취량 가져오기
-                .sum();
-
-        System.out.println("디버깅 totalIntakes 리스트:");
-        totalIntakes.forEach(totalIntake ->
-                System.out.println(" - 날짜: " + totalIntake.getStatDate() + ", 섭취량: " + totalIntake.getTotalIntake())
-        );
-        System.out.println("디버깅 값 확인:" + BigDecimal.valueOf(totalAmount).divide(BigDecimal.valueOf(totalIntakes.size()), 2, RoundingMode.HALF_UP));
-
-        // 평균 계산 및 반환 (소수점 둘째 자리까지 반올림)
-        return BigDecimal.valueOf(totalAmount).divide(BigDecimal.valueOf(totalIntakes.size()), 2, RoundingMode.HALF_UP);
+        return window;
     }
 
-
     /**
      * 증감률을 계산하는 메서드
+     * - (총 섭취량 - 평균) / 평균을 소수점 넷째 자리까지 반올림(HALF_UP)한 값으로, BigDecimal 계산과 결과가 같습니다.
      *
-     * @param totalIntake 총 섭취량
-     * @param averageIntake 평균 섭취량
-     * @return 증감률 (BigDecimal)
+     * @param totalIntake   총 섭취량
+     * @param averageIntake 평균 섭취량 (1/100 단위)
+     * @return 증감률 (1/10000 단위)
      */
-    private BigDecimal calculateChangeRate(int totalIntake, BigDecimal averageIntake) {
-        if (averageIntake.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO; // 평균이 0인 경우 증감률도 0 반환
+    static long calculateChangeRate(int totalIntake, long averageIntake) {
+        if (averageIntake == 0) {
+            return 0; // 평균이 0인 경우 증감률도 0 반환
         }
 
-        return BigDecimal.valueOf(totalIntake).subtract(averageIntake)
-                .divide(averageIntake, 4, RoundingMode.HALF_UP);
+        // (T - A/100) / (A/100) = (100T - A) / A
+        return divideHalfUp((totalIntake * 100L - averageIntake) * RATE_UNIT, averageIntake);
     }
 
     /**
-     * 증감 상태를 계산하는 메서드 (20% 이상 증가: 1 / -20% 이하 감소: -1 / 그 외: 0)
+     * 평균을 소수점 둘째 자리까지 반올림해 1/100 단위 정수로 반환하는 메서드
      *
-     * @param change30d 최근 30일 대비 증감률 (BigDecimal)
-     * @return 증감 상태 (-1, 0, 1 중 하나)
+     * @param sum   구간 섭취량 합계
+     * @param count 구간에서 통계가 있는 날짜 수
+     * @return 평균 섭취량 (1/100 단위)
      */
-    private int calculateChangeStatus(BigDecimal change30d) {
-        if (change30d.compareTo(BigDecimal.valueOf(0.2)) >= 0) { // 20% 이상 증가
-            return 1;
-        } else if (change30d.compareTo(BigDecimal.valueOf(-0.2)) <= 0) { // -20% 이하 감소
-            return -1;
+    static long calculateAverage(int sum, int count) {
+        if (count == 0) {
+            return 0; // 데이터가 없는 경우 0 반환
         }
+        return divideHalfUp(sum * 100L, count);
+    }
+
+    /**
+     * 섭취량의 제곱 (30일 구간 제곱합 계산용, int 범위를 넘을 수 있으므로 long으로 계산)
+     */
+    private static long square(int value) {
+        return (long) value * value;
+    }
 
-        return 0; // 그 외의 경우
+    /**
+     * 정수 나눗셈을 HALF_UP(0.5는 0에서 먼 쪽)으로 반올림하는 메서드 (분모는 양수)
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = (Math.abs(dividend) * 2 + divisor) / (divisor * 2);
+        return dividend < 0 ? -quotient : quotient;
     }
 
     /**
      * changeDays를 계산하는 메서드.
      *
-     * @param catId         고양이 ID.
-     * @param statDate      현재 날짜.
+     * @param yesterdayStat 전날 통계 (없으면 null).
      * @param changeStatus  현재 changeStatus 값.
      * @return changeDays 값.
      */
-    private int calculateChangeDays(Long catId, LocalDate statDate, int changeStatus) {
+    private int calculateChangeDays(Statistics yesterdayStat, int changeStatus) {
         if (changeStatus == 0) {
             return 0; // 현재 changeStatus가 0이면 changedays는 무조건 0.
         }
 
-        // 전날 데이터 조회
-        LocalDate yesterday = statDate.minusDays(1);
-        Statistics yesterdayStat = statisticsRepository.findByCatIdAndStatDate(catId, yesterday).orElse(null);
-
         if (yesterdayStat == null || yesterdayStat.getChangeStatus() != changeStatus) {
             return 1; // 전날 데이터가 없거나 다른 상태인 경우 changedays는 1로 초기화.
         }
 
         return yesterdayStat.getChangeDays() + 1; // 전날의 changedays + 1 반환.
     }
+
+    /**
+     * 최근 7일/30일 구간의 섭취량 합계와 통계가 있는 날짜 수 (30일 구간은 제곱합 포함)
+     */
+    private static class RollingWindow {
+        private int sum7d;
+        private int count7d;
+        private int sum30d;
+        private int count30d;
+        private long sumSquares30d;
+
+        private RollingWindow(int sum7d, int count7d, int sum30d, int count30d, long sumSquares30d) {
+            this.sum7d = sum7d;
+            this.count7d = count7d;
+            this.sum30d = sum30d;
+            this.count30d = count30d;
+            this.sumSquares30d = sumSquares30d;
+        }
+
+        private static RollingWindow of(Statistics stat) {
+            return new RollingWindow(stat.getSum7d(), stat.getCount7d(), stat.getSum30d(), stat.getCount30d(),
+                    stat.getSumSquares30d());
+        }
+
+        private long average7d() {
+            return calculateAverage(sum7d, count7d);
+        }
+
+        private long average30d() {
+            return calculateAverage(sum30d, count30d);
+        }
+
+        /**
+         * 새 날짜의 섭취량을 더하고 구간에서 빠지는 날의 섭취량을 뺀 다음 구간을 반환
+         *
+         * @param totalIntake 새 날짜의 총 섭취량
+         * @param leaving7d   7일 구간에서 빠지는 날의 통계 (없으면 null)
+         * @param leaving30d  30일 구간에서 빠지는 날의 통계 (없으면 null)
+         */
+        private RollingWindow slide(int totalIntake, Statistics leaving7d, Statistics leaving30d) {
+            RollingWindow next = new RollingWindow(sum7d + totalIntake, count7d + 1, sum30d + totalIntake, count30d + 1,
+                    sumSquares30d + square(totalIntake));
+            if (leaving7d != null) {
+                next.sum7d -= leaving7d.getTotalIntake();
+                next.count7d--;
+            }
+            if (leaving30d != null) {
+                next.sum30d -= leaving30d.getTotalIntake();
+                next.count30d--;
+                next.sumSquares30d -= square(leaving30d.getTotalIntake());
+            }
+            return next;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import java.util.Collections;
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final CatBindingCache catBindingCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -133,7 +134,10 @@ public class UserService implements UserDetailsService {
         // 회원 삭제 전 로깅
         log.info("Deleting user with email: {}", email);
         
-        // 회원 삭제
+        // 회원 삭제 (기기도 함께 삭제되므로 시리얼 넘버 캐시 무효화)
+        if (user.getDevices() != null) {
+            user.getDevices().forEach(device -> catBindingCache.evict(device.getSerialNumber()));
+        }
         userRepository.delete(user);
 
         log.info("User deleted successfully: {}", email);
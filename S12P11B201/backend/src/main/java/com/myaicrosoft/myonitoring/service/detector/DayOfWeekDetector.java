@@ -0,0 +1,58 @@
+package com.myaicrosoft.myonitoring.service.detector;
+
+import com.myaicrosoft.myonitoring.model.entity.Cat;
+import com.myaicrosoft.myonitoring.model.entity.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요일별 기준선 감지기
+ * - 7일 전(같은 요일) 통계에 기록된 요일별 EWMA 평균/분산과 비교합니다.
+ *   보호자가 주말에만 집에 있는 등 요일에 따라 섭취 패턴이 다른 고양이에 사용합니다.
+ * - 요일마다 일주일에 한 번만 갱신되므로 30일 구간이 거의 찬 뒤부터 판정합니다.
+ */
+@Component
+public class DayOfWeekDetector implements IntakeAnomalyDetector {
+
+    private final double alpha;
+    private final double threshold;
+    private final int minDays;
+
+    public DayOfWeekDetector(@Value("${statistics.detector.day-of-week.alpha:0.3}") double alpha,
+                             @Value("${statistics.detector.day-of-week.threshold:3.0}") double threshold,
+                             @Value("${statistics.detector.day-of-week.min-days:28}") int minDays) {
+        this.alpha = alpha;
+        this.threshold = threshold;
+        this.minDays = minDays;
+    }
+
+    @Override
+    public Cat.AnomalyDetector getType() {
+        return Cat.AnomalyDetector.DAY_OF_WEEK;
+    }
+
+    @Override
+    public int detect(IntakeDetectionContext context) {
+        Statistics weekAgo = context.getWeekAgo();
+        if (weekAgo == null || weekAgo.getSeasonalMean() == null || weekAgo.getSeasonalVariance() == null
+                || context.getCount30d() < minDays) {
+            return 0; // 데이터 부족
+        }
+        return IntakeAnomalyDetector.classify(context.getTotalIntake(),
+                weekAgo.getSeasonalMean(), weekAgo.getSeasonalVariance(), threshold);
+    }
+
+    @Override
+    public void updateState(Statistics statistics, IntakeDetectionContext context) {
+        Statistics weekAgo = context.getWeekAgo();
+        if (weekAgo == null || weekAgo.getSeasonalMean() == null || weekAgo.getSeasonalVariance() == null) {
+            // 지난주 같은 요일 상태가 없으면 오늘 섭취량으로 다시 시작
+            statistics.setSeasonalMean((double) context.getTotalIntake());
+            statistics.setSeasonalVariance(0.0);
+            return;
+        }
+        double diff = context.getTotalIntake() - weekAgo.getSeasonalMean();
+        statistics.setSeasonalMean(weekAgo.getSeasonalMean() + alpha * diff);
+        statistics.setSeasonalVariance((1 - alpha) * (weekAgo.getSeasonalVariance() + alpha * diff * diff));
+    }
+}
@@ -0,0 +1,57 @@
+package com.myaicrosoft.myonitoring.service.detector;
+
+import com.myaicrosoft.myonitoring.model.entity.Cat;
+import com.myaicrosoft.myonitoring.model.entity.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지수가중이동평균(EWMA) 감지기
+ * - 전날 통계의 EWMA 평균/분산과 비교해 판정하고, 오늘 섭취량을 반영한 평균/분산을 통계에 기록합니다.
+ * - 최근 날짜에 가중치가 크므로 식습관이 서서히 바뀌는 고양이에서 30일 평균보다 오탐이 적습니다.
+ */
+@Component
+public class EwmaDetector implements IntakeAnomalyDetector {
+
+    private final double alpha;
+    private final double threshold;
+    private final int minDays;
+
+    public EwmaDetector(@Value("${statistics.detector.ewma.alpha:0.2}") double alpha,
+                        @Value("${statistics.detector.ewma.threshold:3.0}") double threshold,
+                        @Value("${statistics.detector.ewma.min-days:7}") int minDays) {
+        this.alpha = alpha;
+        this.threshold = threshold;
+        this.minDays = minDays;
+    }
+
+    @Override
+    public Cat.AnomalyDetector getType() {
+        return Cat.AnomalyDetector.EWMA;
+    }
+
+    @Override
+    public int detect(IntakeDetectionContext context) {
+        Statistics previous = context.getPrevious();
+        if (previous == null || previous.getEwmaMean() == null || previous.getEwmaVariance() == null
+                || context.getCount30d() < minDays) {
+            return 0; // 데이터 부족
+        }
+        return IntakeAnomalyDetector.classify(context.getTotalIntake(),
+                previous.getEwmaMean(), previous.getEwmaVariance(), threshold);
+    }
+
+    @Override
+    public void updateState(Statistics statistics, IntakeDetectionContext context) {
+        Statistics previous = context.getPrevious();
+        if (previous == null || previous.getEwmaMean() == null || previous.getEwmaVariance() == null) {
+            // 전날 상태가 없으면 오늘 섭취량으로 다시 시작
+            statistics.setEwmaMean((double) context.getTotalIntake());
+            statistics.setEwmaVariance(0.0);
+            return;
+        }
+        double diff = context.getTotalIntake() - previous.getEwmaMean();
+        statistics.setEwmaMean(previous.getEwmaMean() + alpha * diff);
+        statistics.setEwmaVariance((1 - alpha) * (previous.getEwmaVariance() + alpha * diff * diff));
+    }
+}
@@ -0,0 +1,60 @@
+package com.myaicrosoft.myonitoring.service.detector;
+
+import com.myaicrosoft.myonitoring.model.entity.Cat;
+import com.myaicrosoft.myonitoring.model.entity.Statistics;
+
+/**
+ * 섭취량 이상 감지기
+ * - 고양이마다 설정된 감지기 하나의 결과가 통계의 changeStatus가 되고, 같은 상태가 이어진 날짜 수(changeDays)로
+ *   메인 페이지 플래그와 섭취량 이상 알림을 결정합니다.
+ * - 감지기를 바꿔도 바로 동작하도록, 상태를 쓰는 감지기는 선택 여부와 관계없이 매일 상태를 갱신합니다.
+ */
+public interface IntakeAnomalyDetector {
+
+    /**
+     * 표준편차 하한 (평균 대비 비율) - 분산이 거의 없는 고양이에서 작은 변화가 이상으로 판정되지 않도록 함
+     */
+    double MIN_RELATIVE_SIGMA = 0.05;
+
+    Cat.AnomalyDetector getType();
+
+    /**
+     * 통계 날짜의 섭취량이 이상인지 판정하는 메서드
+     *
+     * @param context 감지 입력
+     * @return 증가 이상: 1 / 감소 이상: -1 / 정상 또는 데이터 부족: 0
+     */
+    int detect(IntakeDetectionContext context);
+
+    /**
+     * 통계 날짜의 섭취량을 반영해 다음 날이 이어받을 상태를 통계에 기록하는 메서드 (상태가 없는 감지기는 아무것도 하지 않음)
+     *
+     * @param statistics 저장할 통계
+     * @param context    감지 입력
+     */
+    default void updateState(Statistics statistics, IntakeDetectionContext context) {
+    }
+
+    /**
+     * 평균과 분산 대비 z-점수로 증가/감소 이상을 판정하는 메서드
+     *
+     * @param value     판정할 값
+     * @param mean      평균
+     * @param variance  분산
+     * @param threshold z-점수 임계값
+     * @return 증가 이상: 1 / 감소 이상: -1 / 정상: 0
+     */
+    static int classify(double value, double mean, double variance, double threshold) {
+        double sigma = Math.max(Math.sqrt(Math.max(variance, 0)), Math.abs(mean) * MIN_RELATIVE_SIGMA);
+        if (sigma == 0) {
+            return 0;
+        }
+        double z = (value - mean) / sigma;
+        if (z >= threshold) {
+            return 1;
+        } else if (z <= -threshold) {
+            return -1;
+        }
+        return 0;
+    }
+}
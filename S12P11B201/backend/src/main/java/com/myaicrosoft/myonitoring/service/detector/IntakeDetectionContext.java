@@ -0,0 +1,22 @@
+package com.myaicrosoft.myonitoring.service.detector;
+
+import com.myaicrosoft.myonitoring.model.entity.Statistics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 섭취량 이상 감지 입력
+ * - 통계 날짜의 섭취량과, 그 전날까지 누적된 상태(구간 합계, 전날/7일 전 통계)만 담으므로
+ *   감지기는 과거 기록을 다시 조회하지 않고 고양이-날짜당 O(1)로 계산합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class IntakeDetectionContext {
+    private final int totalIntake;      // 통계 날짜의 총 섭취량
+    private final long change30d;       // 30일 평균 대비 증감률 (1/10000 단위)
+    private final int sum30d;           // 통계 날짜 이전 30일 구간의 섭취량 합계
+    private final int count30d;         // 통계 날짜 이전 30일 구간에 통계가 있는 날짜 수
+    private final long sumSquares30d;   // 통계 날짜 이전 30일 구간의 섭취량 제곱합
+    private final Statistics previous;  // 전날 통계 (없으면 null)
+    private final Statistics weekAgo;   // 7일 전(같은 요일) 통계 (없으면 null)
+}
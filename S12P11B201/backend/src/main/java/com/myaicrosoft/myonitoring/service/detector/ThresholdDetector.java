@@ -0,0 +1,28 @@
+package com.myaicrosoft.myonitoring.service.detector;
+
+import com.myaicrosoft.myonitoring.model.entity.Cat;
+import org.springframework.stereotype.Component;
+
+/**
+ * 30일 평균 대비 증감률 감지기 (기존 규칙: 20% 이상 증가 1 / 20% 이상 감소 -1)
+ */
+@Component
+public class ThresholdDetector implements IntakeAnomalyDetector {
+
+    private static final long CHANGE_THRESHOLD = 2_000; // 20% (1/10000 단위)
+
+    @Override
+    public Cat.AnomalyDetector getType() {
+        return Cat.AnomalyDetector.THRESHOLD;
+    }
+
+    @Override
+    public int detect(IntakeDetectionContext context) {
+        if (context.getChange30d() >= CHANGE_THRESHOLD) { // 20% 이상 증가
+            return 1;
+        } else if (context.getChange30d() <= -CHANGE_THRESHOLD) { // -20% 이하 감소
+            return -1;
+        }
+        return 0; // 그 외의 경우
+    }
+}
@@ -0,0 +1,38 @@
+package com.myaicrosoft.myonitoring.service.detector;
+
+import com.myaicrosoft.myonitoring.model.entity.Cat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 30일 평균과 분산 대비 z-점수 감지기
+ * - 평균과 분산은 통계에 이어지는 30일 구간 합계와 제곱합(sum30d, sumSquares30d)으로 계산합니다.
+ */
+@Component
+public class ZScoreDetector implements IntakeAnomalyDetector {
+
+    private final double threshold;
+    private final int minDays;
+
+    public ZScoreDetector(@Value("${statistics.detector.z-score.threshold:2.5}") double threshold,
+                          @Value("${statistics.detector.z-score.min-days:14}") int minDays) {
+        this.threshold = threshold;
+        this.minDays = minDays;
+    }
+
+    @Override
+    public Cat.AnomalyDetector getType() {
+        return Cat.AnomalyDetector.Z_SCORE;
+    }
+
+    @Override
+    public int detect(IntakeDetectionContext context) {
+        int count = context.getCount30d();
+        if (count < minDays) {
+            return 0; // 데이터 부족
+        }
+        double mean = (double) context.getSum30d() / count;
+        double variance = (double) context.getSumSquares30d() / count - mean * mean;
+        return IntakeAnomalyDetector.classify(context.getTotalIntake(), mean, variance, threshold);
+    }
+}
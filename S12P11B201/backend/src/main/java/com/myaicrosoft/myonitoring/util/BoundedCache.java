@@ -0,0 +1,243 @@
+package com.myaicrosoft.myonitoring.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 최대 크기와 만료 시간을 가지는 근사 LRU 인메모리 캐시
+ * - 조회는 락 없이 ConcurrentHashMap에서 이루어지며, 항목마다 마지막 접근 시각만 기록합니다.
+ * - 최대 크기를 넘으면 한 스레드가 전체 항목을 훑어 가장 오래 접근되지 않은 항목부터 일정 비율을 한꺼번에 제거합니다.
+ *   제거가 끝나기 전까지는 잠시 최대 크기를 넘을 수 있습니다.
+ * - 항목별 만료 시간(TTL)을 지정할 수 있으며, 만료된 항목은 조회 시점이나 제거 시점에 지워집니다.
+ * - 로딩 중에 무효화가 일어나면 로딩한 값을 저장하지 않아, 무효화 이전 값이 다시 캐시되지 않습니다.
+ *   키 하나의 무효화는 같은 구역(키 해시 기준)의 로딩에만 영향을 주므로, 무효화가 잦아도 다른 키는 계속 캐시됩니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedCache<K, V> {
+
+    private static final int GENERATION_STRIPES = 64; // 키 무효화 세대를 나누어 관리하는 구역 수 (2의 거듭제곱)
+    private static final int EVICTION_PERCENT = 10; // 최대 크기를 넘었을 때 한 번에 제거하는 비율 (%)
+
+    private final int maxSize;
+    private final int evictToSize; // 제거 후 남길 항목 수
+    private final long defaultTtlNanos;
+    private final ConcurrentHashMap<K, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong(); // 조건/전체 무효화할 때마다 증가
+    private final AtomicLongArray keyGenerations = new AtomicLongArray(GENERATION_STRIPES); // 구역별 키 무효화 세대
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maxSize         최대 항목 수
+     * @param defaultTtlNanos 기본 만료 시간 (나노초, 0 이하면 만료 없음)
+     */
+    public BoundedCache(int maxSize, long defaultTtlNanos) {
+        this.maxSize = maxSize;
+        this.evictToSize = Math.max(0, maxSize - Math.max(1, (int) ((long) maxSize * EVICTION_PERCENT / 100)));
+        this.defaultTtlNanos = defaultTtlNanos;
+    }
+
+    /**
+     * 캐시된 값을 조회하는 메서드
+     *
+     * @param key 키
+     * @return 캐시된 값 (없거나 만료되었으면 null)
+     */
+    public V getIfPresent(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        long now = System.nanoTime();
+        if (entry.isExpired(now)) {
+            if (entries.remove(key, entry)) {
+                evictionCount.increment();
+            }
+            missCount.increment();
+            return null;
+        }
+        entry.accessedAtNanos = now;
+        hitCount.increment();
+        return entry.value;
+    }
+
+    /**
+     * 캐시된 값을 조회하고, 없으면 loader로 로딩해 기본 만료 시간으로 저장하는 메서드
+     * - loader는 락 밖에서 실행되므로 같은 키를 동시에 로딩할 수 있습니다.
+     *
+     * @param key    키
+     * @param loader 캐시 미스 시 값을 로딩하는 함수 (null 반환 시 캐시하지 않음)
+     * @return 캐시된 값 또는 로딩한 값
+     */
+    public V get(K key, Function<K, V> loader) {
+        return get(key, loader, defaultTtlNanos);
+    }
+
+    /**
+     * 캐시된 값을 조회하고, 없으면 loader로 로딩해 지정한 만료 시간으로 저장하는 메서드
+     *
+     * @param key      키
+     * @param loader   캐시 미스 시 값을 로딩하는 함수 (null 반환 시 캐시하지 않음)
+     * @param ttlNanos 만료 시간 (나노초, 0 이하면 만료 없음)
+     * @return 캐시된 값 또는 로딩한 값
+     */
+    public V get(K key, Function<K, V> loader, long ttlNanos) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(key);
+        long loadGeneration = generation.get();
+        long loadKeyGeneration = keyGenerations.get(stripe);
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            CacheEntry<V> loadedEntry = new CacheEntry<>(loaded, ttlNanos);
+            // 세대 확인을 키 단위 잠금(compute) 안에서 해, 무효화(세대 증가 후 제거)와 어긋나는 순서로 저장되지 않게 함
+            // 로딩하는 동안 무효화가 있었다면 오래된 값일 수 있으므로 저장하지 않음
+            CacheEntry<V> stored = entries.compute(key, (k, existing) ->
+                    generation.get() == loadGeneration && keyGenerations.get(stripe) == loadKeyGeneration
+                            ? loadedEntry : existing);
+            if (stored == loadedEntry) {
+                evictIfNeeded();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 값을 기본 만료 시간으로 저장하는 메서드
+     */
+    public void put(K key, V value) {
+        entries.put(key, new CacheEntry<>(value, defaultTtlNanos));
+        evictIfNeeded();
+    }
+
+    /**
+     * 특정 키를 무효화하는 메서드
+     */
+    public void invalidate(K key) {
+        keyGenerations.incrementAndGet(stripe(key));
+        entries.remove(key);
+    }
+
+    /**
+     * 조건에 맞는 키를 모두 무효화하는 메서드 (전체 항목을 순회하므로 정확한 키를 알 때는 invalidate 사용)
+     */
+    public void invalidateIf(Predicate<K> condition) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(condition);
+    }
+
+    /**
+     * 모든 항목을 무효화하는 메서드
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 최대 크기를 넘었으면 만료된 항목과 가장 오래 접근되지 않은 항목을 제거하는 메서드
+     * - 이미 다른 스레드가 제거 중이면 기다리지 않고 넘어갑니다.
+     */
+    private void evictIfNeeded() {
+        if (entries.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            long[] accessTimes = new long[entries.size()];
+            int count = 0;
+            Iterator<CacheEntry<V>> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                CacheEntry<V> entry = iterator.next();
+                if (entry.isExpired(now)) {
+                    iterator.remove();
+                    evictionCount.increment();
+                } else if (count < accessTimes.length) {
+                    accessTimes[count++] = entry.accessedAtNanos;
+                }
+            }
+
+            int excess = entries.size() - evictToSize;
+            if (excess <= 0 || count == 0) {
+                return;
+            }
+            // 접근 시각 기준으로 excess번째로 오래된 시각까지를 제거 대상으로 삼음
+            Arrays.sort(accessTimes, 0, count);
+            long threshold = accessTimes[Math.min(excess, count) - 1];
+            for (Map.Entry<K, CacheEntry<V>> entry : entries.entrySet()) {
+                if (excess <= 0) {
+                    break;
+                }
+                CacheEntry<V> value = entry.getValue();
+                if (value.accessedAtNanos - threshold <= 0 && entries.remove(entry.getKey(), value)) {
+                    evictionCount.increment();
+                    excess--;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 캐시 항목 (값, 만료 시각, 마지막 접근 시각)
+     */
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expiresAtNanos; // 0이면 만료 없음
+        private volatile long accessedAtNanos; // 근사 LRU 제거 기준
+
+        private CacheEntry(V value, long ttlNanos) {
+            long now = System.nanoTime();
+            this.value = value;
+            this.expiresAtNanos = ttlNanos > 0 ? now + ttlNanos : 0;
+            this.accessedAtNanos = now;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtNanos != 0 && now - expiresAtNanos >= 0;
+        }
+    }
+}
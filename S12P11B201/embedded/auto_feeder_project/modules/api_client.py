@@ -1,8 +1,10 @@
 import requests
 import json
+import msgpack
 from config import API_URL, API_TOKEN
 
-def send_sensor_data(serial_number: str, data_type: str, data: dict, timestamp: str):
+def send_sensor_data(serial_number: str, data_type: str, data: dict, timestamp: str, seq: int = None,
+                     use_msgpack: bool = False, seq_epoch: int = None):
     """
     센서 데이터를 API로 전송하는 함수.
     
@@ -10,6 +12,9 @@ def send_sensor_data(serial_number: str, data_type: str, data: dict, timestamp:
     :param data_type: 데이터 유형 ("feeding", "intake", "eye" 중 하나)
     :param data: 데이터 내용 (딕셔너리 형식)
     :param timestamp: 데이터 수집 시간 (ISO 8601 형식 문자열)
+    :param seq: 데이터 유형별로 1씩 증가하는 시퀀스 번호 (재전송 시 같은 값을 보내면 서버가 중복 저장하지 않음)
+    :param use_msgpack: True면 JSON 대신 MessagePack(application/msgpack)으로 인코딩해 전송
+    :param seq_epoch: 시퀀스 번호 세대 (시퀀스 카운터가 초기화될 때마다 바뀌는 값, check_folder.load_sequence_state 참고)
     :return: API 응답 JSON
     """
     payload = {
@@ -18,14 +23,18 @@ def send_sensor_data(serial_number: str, data_type: str, data: dict, timestamp:
         "type": data_type,
         "data": data
     }
+    if seq is not None:
+        payload["seq"] = seq
+        payload["seq_epoch"] = seq_epoch
 
     headers = {
-        "Content-Type": "application/json",
+        "Content-Type": "application/msgpack" if use_msgpack else "application/json",
         "Authorization": f"Bearer {API_TOKEN}"
     }
+    body = msgpack.packb(payload) if use_msgpack else json.dumps(payload)
 
     try:
-        response = requests.post(API_URL, headers=headers, json=payload)
+        response = requests.post(API_URL, headers=headers, data=body)
         response.raise_for_status()  # 응답 코드가 4xx, 5xx이면 예외 발생
         return response.json()
     except requests.exceptions.RequestException as e:
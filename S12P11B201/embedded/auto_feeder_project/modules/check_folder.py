@@ -1,8 +1,13 @@
 import os
 import json
+import time
 import requests
 
-def send_sensor_data(serial_number: str, data_type: str, data: dict, timestamp: str, api_url: str, api_token=None):
+# 기기/데이터 유형별 마지막 시퀀스 번호와 시퀀스 세대를 저장하는 파일 (재시작해도 번호가 이어지도록 유지)
+SEQUENCE_STATE_PATH = "data/sequence_state.json"
+
+def send_sensor_data(serial_number: str, data_type: str, data: dict, timestamp: str, api_url: str, api_token=None,
+                     seq=None, seq_epoch=None):
     """
     센서 데이터를 API로 전송하는 함수.
     
@@ -12,6 +17,8 @@ def send_sensor_data(serial_number: str, data_type: str, data: dict, timestamp:
     :param timestamp: 데이터 수집 시간 (ISO 8601 형식 문자열)
     :param api_url: API 엔드포인트 URL
     :param api_token: API 인증 토큰 (선택 사항)
+    :param seq: 기기/데이터 유형별로 1씩 증가하는 시퀀스 번호 (재전송 시 같은 값을 보내면 서버가 중복 저장하지 않음)
+    :param seq_epoch: 시퀀스 번호 세대 (시퀀스 카운터가 초기화될 때마다 바뀌는 값)
     :return: API 응답 결과 딕셔너리
     """
     payload = {
@@ -20,6 +27,9 @@ def send_sensor_data(serial_number: str, data_type: str, data: dict, timestamp:
         "type": data_type,
         "data": data
     }
+    if seq is not None:
+        payload["seq"] = seq
+        payload["seq_epoch"] = seq_epoch
     headers = {
         "Content-Type": "application/json"
     }
@@ -49,6 +59,69 @@ def send_sensor_data(serial_number: str, data_type: str, data: dict, timestamp:
     except requests.exceptions.RequestException as e:
         return {"error": str(e)}
 
+def write_json_atomic(path, obj):
+    """
+    JSON 파일을 임시 파일에 먼저 쓴 뒤 교체하는 함수 (쓰는 도중 전원이 꺼져도 기존 내용이 깨지지 않음)
+
+    :param path: 저장할 파일 경로
+    :param obj: 저장할 객체
+    """
+    temp_path = path + ".tmp"
+    with open(temp_path, 'w') as file:
+        json.dump(obj, file, indent=2, ensure_ascii=False)
+        file.flush()
+        os.fsync(file.fileno())
+    os.replace(temp_path, path)
+
+def load_sequence_state(state_path=SEQUENCE_STATE_PATH):
+    """
+    시퀀스 상태 파일을 읽는 함수
+    - 파일이 없거나 손상되었으면 카운터를 처음부터 다시 시작하므로, 이전에 보낸 번호와 겹치지 않도록
+      현재 시각(초)을 새 시퀀스 세대로 사용합니다.
+
+    :param state_path: 시퀀스 상태 파일 경로
+    :return: {"epoch": 시퀀스 세대, "last_seq": {시리얼 번호: {데이터 유형: 마지막 시퀀스 번호}}}
+    """
+    try:
+        with open(state_path, 'r') as file:
+            state = json.load(file)
+        if isinstance(state.get("epoch"), int) and state["epoch"] >= 0 and isinstance(state.get("last_seq"), dict):
+            return state
+        print(f"Invalid sequence state, starting a new epoch: {state_path}")
+    except FileNotFoundError:
+        pass
+    except (json.JSONDecodeError, AttributeError) as e:
+        print(f"Error reading sequence state {state_path}: {e}, starting a new epoch")
+
+    state = {"epoch": int(time.time()), "last_seq": {}}
+    os.makedirs(os.path.dirname(state_path) or ".", exist_ok=True)
+    write_json_atomic(state_path, state)
+    return state
+
+def assign_sequence(json_data, state, state_path=SEQUENCE_STATE_PATH):
+    """
+    아직 시퀀스 번호가 없는 데이터에 다음 시퀀스 번호와 세대를 부여하는 함수
+    - 상태 파일을 먼저 저장한 뒤 번호를 부여하므로, 도중에 꺼져도 같은 번호가 다른 데이터에 다시 쓰이지 않습니다.
+      (번호가 하나 건너뛰어질 수는 있으며, 서버는 이를 문제 삼지 않음)
+
+    :param json_data: 전송할 데이터 (딕셔너리, seq/seq_epoch 키가 추가됨)
+    :param state: load_sequence_state로 읽은 시퀀스 상태
+    :param state_path: 시퀀스 상태 파일 경로
+    :return: 새 번호를 부여했으면 True, 이미 번호가 있었으면 False
+    """
+    if json_data.get('seq') is not None:
+        return False
+
+    device_seq = state["last_seq"].setdefault(json_data.get('serial_number'), {})
+    data_type = json_data.get('type')
+    seq = device_seq.get(data_type, 0) + 1
+    device_seq[data_type] = seq
+    write_json_atomic(state_path, state)
+
+    json_data['seq'] = seq
+    json_data['seq_epoch'] = state["epoch"]
+    return True
+
 def check_and_process_files(directory_path, api_url, delete_on_success=True, api_token=None):
     """
     디렉토리에 있는 모든 JSON 파일을 읽고 API로 전송하는 함수
@@ -70,6 +143,8 @@ def check_and_process_files(directory_path, api_url, delete_on_success=True, api
         print(f"Directory does not exist: {directory_path}")
         return 0
     
+    sequence_state = load_sequence_state()
+
     # 디렉토리 내의 모든 JSON 파일 탐색
     for filename in os.listdir(directory_path):
         if filename.endswith('.json'):
@@ -83,6 +158,11 @@ def check_and_process_files(directory_path, api_url, delete_on_success=True, api
                 print(f"Processing file: {filename}")
                 print(f"Data content: {json.dumps(json_data, indent=2)}")
                 
+                # 처음 전송하는 파일이면 시퀀스 번호를 부여해 파일에 함께 저장
+                # (전송에 실패해 다시 보낼 때도 같은 번호를 보내므로 서버가 중복 저장하지 않음)
+                if assign_sequence(json_data, sequence_state):
+                    write_json_atomic(file_path, json_data)
+
                 # JSON 데이터에서 필요한 정보 추출
                 serial_number = json_data.get('serial_number')
                 timestamp = json_data.get('datetime')
@@ -90,7 +170,8 @@ def check_and_process_files(directory_path, api_url, delete_on_success=True, api
                 data = json_data.get('data')
                 
                 # API로 데이터 전송
-                response = send_sensor_data(serial_number, data_type, data, timestamp, api_url, api_token)
+                response = send_sensor_data(serial_number, data_type, data, timestamp, api_url, api_token,
+                                            json_data.get('seq'), json_data.get('seq_epoch'))
                 
                 # 응답에 status 또는 error 키가 있는지 확인
                 if "status" in response and response["status"] in [200, 201, 202]:
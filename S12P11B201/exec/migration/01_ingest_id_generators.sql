@@ -0,0 +1,33 @@
+-- ============================================================
+-- 섭취/급여/안구/통계/알림 테이블 ID 생성 전략 변경 (IDENTITY -> TABLE)
+-- - 백엔드 배포 전에 실행합니다. 배포 후에 실행해도 GREATEST로 값을 보정하지만,
+--   그 사이에 저장된 레코드는 기존 ID와 충돌할 수 있으므로 반드시 배포 전에 실행하세요.
+-- - next_val에는 "마지막으로 사용한 ID"를 저장합니다. (hibernate.id.generator.stored_last_used 기본값)
+-- - 기존 AUTO_INCREMENT 속성은 그대로 두어도 됩니다. (Hibernate가 ID를 직접 지정해 INSERT)
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS `id_generators` (
+  `gen_name` varchar(255) NOT NULL,
+  `next_val` bigint DEFAULT NULL,
+  PRIMARY KEY (`gen_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `id_generators` (`gen_name`, `next_val`)
+SELECT * FROM (SELECT 'intake_records' AS `name`, COALESCE(MAX(`id`), 0) AS `max_id` FROM `intake_records`) AS `src`
+ON DUPLICATE KEY UPDATE `next_val` = GREATEST(COALESCE(`next_val`, 0), `src`.`max_id`);
+
+INSERT INTO `id_generators` (`gen_name`, `next_val`)
+SELECT * FROM (SELECT 'feeding_records' AS `name`, COALESCE(MAX(`id`), 0) AS `max_id` FROM `feeding_records`) AS `src`
+ON DUPLICATE KEY UPDATE `next_val` = GREATEST(COALESCE(`next_val`, 0), `src`.`max_id`);
+
+INSERT INTO `id_generators` (`gen_name`, `next_val`)
+SELECT * FROM (SELECT 'eye_records' AS `name`, COALESCE(MAX(`id`), 0) AS `max_id` FROM `eye_records`) AS `src`
+ON DUPLICATE KEY UPDATE `next_val` = GREATEST(COALESCE(`next_val`, 0), `src`.`max_id`);
+
+INSERT INTO `id_generators` (`gen_name`, `next_val`)
+SELECT * FROM (SELECT 'stat_records' AS `name`, COALESCE(MAX(`id`), 0) AS `max_id` FROM `stat_records`) AS `src`
+ON DUPLICATE KEY UPDATE `next_val` = GREATEST(COALESCE(`next_val`, 0), `src`.`max_id`);
+
+INSERT INTO `id_generators` (`gen_name`, `next_val`)
+SELECT * FROM (SELECT 'notification_records' AS `name`, COALESCE(MAX(`id`), 0) AS `max_id` FROM `notification_records`) AS `src`
+ON DUPLICATE KEY UPDATE `next_val` = GREATEST(COALESCE(`next_val`, 0), `src`.`max_id`);
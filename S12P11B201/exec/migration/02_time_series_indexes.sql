@@ -0,0 +1,19 @@
+-- ============================================================
+-- 섭취/급여/안구/통계 테이블 시계열 조회용 복합 인덱스 추가
+-- - 고양이 ID + 시간 조건으로 조회하는 API와 통계 작업이 인덱스 범위 검색을 사용하도록 합니다.
+-- - ddl-auto=update도 같은 이름의 인덱스를 만들지만, 큰 테이블에서는 배포 전에 온라인(INPLACE, LOCK=NONE)으로
+--   미리 만들어 두는 것을 권장합니다. 이미 있는 인덱스는 "Duplicate key name" 오류가 나므로 해당 줄은 건너뛰세요.
+-- ============================================================
+
+ALTER TABLE `intake_records`
+  ADD INDEX `idx_intake_cat_time` (`cat_id`, `intake_date_time`), ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `feeding_records`
+  ADD INDEX `idx_feeding_cat_time` (`cat_id`, `feeding_date_time`), ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `eye_records`
+  ADD INDEX `idx_eye_cat_diseased_time` (`cat_id`, `is_eye_diseased`, `captured_date_time`), ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `stat_records`
+  ADD INDEX `idx_stat_cat_date` (`cat_id`, `stat_date`), ALGORITHM=INPLACE, LOCK=NONE;
+
@@ -0,0 +1,36 @@
+-- ============================================================
+-- 섭취/급여 일 단위 집계(intake_daily_rollups) 백필
+-- - 집계 테이블은 ddl-auto=update로 생성되므로 백엔드 배포 직후에 한 번 실행합니다.
+-- - 원본 기록(intake_records, feeding_records)으로 구간별 합계를 다시 계산해 덮어쓰므로,
+--   여러 번 실행해도 같은 결과가 되며 집계가 어긋났을 때 복구 용도로도 사용할 수 있습니다.
+-- - 새 값은 VALUES() 대신 파생 테이블(src) 컬럼으로 참조합니다. (VALUES()는 MySQL 8.0.20부터 사용 중단)
+-- ============================================================
+
+-- 일 단위: 섭취
+INSERT INTO `intake_daily_rollups` (`cat_id`, `rollup_date`, `intake_amount_sum`, `intake_count`, `intake_duration_sum`,
+                                    `feeding_count`, `configured_feeding_sum`, `actual_feeding_sum`)
+SELECT * FROM (
+    SELECT `cat_id`, DATE(`intake_date_time`) AS `day`,
+           COALESCE(SUM(`intake_amount`), 0) AS `amount_sum`, COUNT(*) AS `cnt`, COALESCE(SUM(`intake_duration`), 0) AS `duration_sum`,
+           0 AS `f_cnt`, 0 AS `f_configured`, 0 AS `f_actual`
+    FROM `intake_records`
+    GROUP BY `cat_id`, DATE(`intake_date_time`)
+) AS `src`
+ON DUPLICATE KEY UPDATE `intake_amount_sum` = `src`.`amount_sum`,
+                        `intake_count` = `src`.`cnt`,
+                        `intake_duration_sum` = `src`.`duration_sum`;
+
+-- 일 단위: 급여
+INSERT INTO `intake_daily_rollups` (`cat_id`, `rollup_date`, `intake_amount_sum`, `intake_count`, `intake_duration_sum`,
+                                    `feeding_count`, `configured_feeding_sum`, `actual_feeding_sum`)
+SELECT * FROM (
+    SELECT `cat_id`, DATE(`feeding_date_time`) AS `day`,
+           0 AS `i_amount`, 0 AS `i_cnt`, 0 AS `i_duration`,
+           COUNT(*) AS `cnt`, COALESCE(SUM(`configured_feeding_amount`), 0) AS `configured_sum`,
+           COALESCE(SUM(`actual_feeding_amount`), 0) AS `actual_sum`
+    FROM `feeding_records`
+    GROUP BY `cat_id`, DATE(`feeding_date_time`)
+) AS `src`
+ON DUPLICATE KEY UPDATE `feeding_count` = `src`.`cnt`,
+                        `configured_feeding_sum` = `src`.`configured_sum`,
+                        `actual_feeding_sum` = `src`.`actual_sum`;
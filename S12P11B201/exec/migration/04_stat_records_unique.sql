@@ -0,0 +1,21 @@
+-- ============================================================
+-- 통계 테이블 (고양이, 날짜) 유니크 제약 추가
+-- - 백엔드 배포 전에 실행합니다. 중복 통계가 남아 있으면 ddl-auto=update가 유니크 제약을 만들지 못합니다.
+-- - 같은 고양이/날짜의 통계가 여러 개이면 가장 나중에 저장된(ID가 가장 큰) 통계만 남깁니다.
+-- - 유니크 인덱스가 (cat_id, stat_date) 조회를 대신하므로 기존 idx_stat_cat_date 인덱스는 삭제합니다.
+-- ============================================================
+
+-- 삭제될 중복 통계 수 확인
+SELECT COUNT(*) AS duplicate_rows
+FROM `stat_records` s
+JOIN `stat_records` t ON t.`cat_id` = s.`cat_id` AND t.`stat_date` = s.`stat_date` AND t.`id` > s.`id`;
+
+DELETE s FROM `stat_records` s
+JOIN `stat_records` t ON t.`cat_id` = s.`cat_id` AND t.`stat_date` = s.`stat_date` AND t.`id` > s.`id`;
+
+ALTER TABLE `stat_records`
+  ADD UNIQUE KEY `uk_stat_cat_date` (`cat_id`, `stat_date`), ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 02_time_series_indexes.sql을 실행하지 않아 인덱스가 없으면 "Can't DROP" 오류가 나므로 건너뛰세요.
+ALTER TABLE `stat_records`
+  DROP INDEX `idx_stat_cat_date`, ALGORITHM=INPLACE, LOCK=NONE;
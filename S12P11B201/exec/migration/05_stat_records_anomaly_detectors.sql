@@ -0,0 +1,15 @@
+-- ============================================================
+-- 섭취량 이상 감지기 상태 컬럼과 알림 대상 조회 인덱스 추가
+-- - 감지기 상태 컬럼(sum_squares30d, ewma_*, seasonal_*)과 cats.anomaly_detector는 ddl-auto=update가 NULL 허용으로 추가합니다.
+--   기존 통계는 값이 비어 있으므로, 다음 통계 생성 때 고양이마다 최근 30일 통계로 구간을 한 번 다시 계산합니다.
+-- - EWMA/요일별 기준선 상태를 바로 쓰려면 배포 후 관리자 API(POST /admin/statistics/backfill)로
+--   최근 30일 이상을 재계산합니다. 재계산하지 않으면 감지기가 데이터를 쌓는 동안 changeStatus는 0입니다.
+-- - 알림 작업이 전날 통계에서 changeDays 조건으로 대상을 찾으므로 인덱스를 온라인으로 미리 추가합니다.
+--   이미 있는 인덱스는 "Duplicate key name" 오류가 나므로 건너뛰세요.
+-- ============================================================
+
+ALTER TABLE `stat_records`
+  ADD INDEX `idx_stat_date_change_days` (`stat_date`, `change_days`), ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 확인: 실행 계획의 key가 idx_stat_date_change_days인지 확인합니다.
+-- EXPLAIN SELECT * FROM stat_records WHERE stat_date = '2025-01-01' AND change_days >= 2;
@@ -0,0 +1,12 @@
+-- ============================================================
+-- 의료 기록 테이블 고양이 ID + 방문 날짜 인덱스 추가
+-- - 메인 페이지 요약 조회가 그날 의료 기록을 인덱스로 찾도록 합니다.
+-- - ddl-auto=update도 같은 이름의 인덱스를 만들지만, 배포 전에 온라인(INPLACE, LOCK=NONE)으로 미리 만들어 두는 것을 권장합니다.
+--   이미 있는 인덱스는 "Duplicate key name" 오류가 나므로 건너뛰세요.
+-- ============================================================
+
+ALTER TABLE `medical_records`
+  ADD INDEX `idx_medical_cat_date` (`cat_id`, `visit_date`), ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 확인: 실행 계획의 key가 idx_medical_cat_date인지 확인합니다.
+-- EXPLAIN SELECT * FROM medical_records WHERE cat_id = 1 AND visit_date = '2025-01-01';
@@ -0,0 +1,12 @@
+-- ============================================================
+-- 고양이 테이블 대시보드 데이터 버전 컬럼 추가
+-- - 기록/통계/알림 로그가 바뀔 때마다 1씩 올라가며, 메인 페이지/섭취량/안구 질환/알림 로그 조회 응답의 ETag로 사용합니다.
+-- - ddl-auto=update도 같은 컬럼을 추가하지만, 기본값 0을 가진 NOT NULL 컬럼으로 배포 전에 온라인(INSTANT)으로 미리 추가하는 것을 권장합니다.
+--   이미 있는 컬럼은 "Duplicate column name" 오류가 나므로 건너뛰세요.
+-- ============================================================
+
+ALTER TABLE `cats`
+  ADD COLUMN `data_version` BIGINT NOT NULL DEFAULT 0, ALGORITHM=INSTANT;
+
+-- 확인: 모든 고양이의 data_version이 0 이상인지 확인합니다.
+-- SELECT COUNT(*) FROM cats WHERE data_version IS NULL;
@@ -0,0 +1,69 @@
+-- ============================================================
+-- 섭취/급여/안구 테이블 시퀀스 번호 중복 판단 단위를 고양이에서 기기(시리얼 넘버 + 시퀀스 세대)로 변경
+-- - 백엔드 배포 전에 실행합니다. 기존 (cat_id, device_seq) 유니크 인덱스는 기기를 교체하거나 카운터가 초기화되면
+--   새 기록을 중복으로 막으므로 삭제하고, (device_serial_number, device_seq_epoch, device_seq) 유니크 인덱스로 바꿉니다.
+-- - 시퀀스 번호가 있는 기존 기록은 고양이에 현재 연결된 기기의 시리얼 넘버와 세대 0으로 채웁니다.
+--   같은 기기에 연결되었던 이전 고양이의 기록은 새 기록과 겹치지 않도록 세대를 -고양이 ID로 채웁니다. (기기는 0 이상만 보냄)
+-- - 컬럼 추가는 온라인(INSTANT)으로 실행되며, 이미 있는 컬럼은 "Duplicate column name" 오류가 나므로 건너뛰세요.
+-- ============================================================
+
+ALTER TABLE `intake_records`
+  ADD COLUMN `device_serial_number` VARCHAR(100) NULL,
+  ADD COLUMN `device_seq_epoch` BIGINT NULL, ALGORITHM=INSTANT;
+
+ALTER TABLE `feeding_records`
+  ADD COLUMN `device_serial_number` VARCHAR(100) NULL,
+  ADD COLUMN `device_seq_epoch` BIGINT NULL, ALGORITHM=INSTANT;
+
+ALTER TABLE `eye_records`
+  ADD COLUMN `device_serial_number` VARCHAR(100) NULL,
+  ADD COLUMN `device_seq_epoch` BIGINT NULL, ALGORITHM=INSTANT;
+
+-- 기존 기록 채우기 (기존 유니크 인덱스가 (cat_id, device_seq)를 보장하므로 새 유니크 인덱스와 충돌하지 않음)
+-- 이 스크립트 실행 후 배포 전까지 이전 버전이 저장한 기록은 비어 있으므로, 배포 직후 아래 UPDATE 세 개만 한 번 더 실행합니다.
+UPDATE `intake_records` r
+JOIN `cats` c ON c.`id` = r.`cat_id`
+JOIN `devices` d ON d.`id` = c.`device_id`
+JOIN (SELECT `device_id`, MAX(`id`) AS `latest_cat_id` FROM `cats` GROUP BY `device_id`) l ON l.`device_id` = c.`device_id`
+SET r.`device_serial_number` = d.`serial_number`,
+    r.`device_seq_epoch` = CASE WHEN c.`id` = l.`latest_cat_id` THEN 0 ELSE -c.`id` END
+WHERE r.`device_seq` IS NOT NULL AND r.`device_serial_number` IS NULL;
+
+UPDATE `feeding_records` r
+JOIN `cats` c ON c.`id` = r.`cat_id`
+JOIN `devices` d ON d.`id` = c.`device_id`
+JOIN (SELECT `device_id`, MAX(`id`) AS `latest_cat_id` FROM `cats` GROUP BY `device_id`) l ON l.`device_id` = c.`device_id`
+SET r.`device_serial_number` = d.`serial_number`,
+    r.`device_seq_epoch` = CASE WHEN c.`id` = l.`latest_cat_id` THEN 0 ELSE -c.`id` END
+WHERE r.`device_seq` IS NOT NULL AND r.`device_serial_number` IS NULL;
+
+UPDATE `eye_records` r
+JOIN `cats` c ON c.`id` = r.`cat_id`
+JOIN `devices` d ON d.`id` = c.`device_id`
+JOIN (SELECT `device_id`, MAX(`id`) AS `latest_cat_id` FROM `cats` GROUP BY `device_id`) l ON l.`device_id` = c.`device_id`
+SET r.`device_serial_number` = d.`serial_number`,
+    r.`device_seq_epoch` = CASE WHEN c.`id` = l.`latest_cat_id` THEN 0 ELSE -c.`id` END
+WHERE r.`device_seq` IS NOT NULL AND r.`device_serial_number` IS NULL;
+
+ALTER TABLE `intake_records`
+  ADD UNIQUE KEY `uk_intake_device_seq` (`device_serial_number`, `device_seq_epoch`, `device_seq`), ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `feeding_records`
+  ADD UNIQUE KEY `uk_feeding_device_seq` (`device_serial_number`, `device_seq_epoch`, `device_seq`), ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `eye_records`
+  ADD UNIQUE KEY `uk_eye_device_seq` (`device_serial_number`, `device_seq_epoch`, `device_seq`), ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 기존 유니크 인덱스 삭제 (ddl-auto=update는 인덱스를 삭제하지 않으므로 반드시 실행)
+-- 인덱스가 없으면 "Can't DROP" 오류가 나므로 건너뛰세요.
+ALTER TABLE `intake_records`
+  DROP INDEX `uk_intake_cat_device_seq`, ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `feeding_records`
+  DROP INDEX `uk_feeding_cat_device_seq`, ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `eye_records`
+  DROP INDEX `uk_eye_cat_device_seq`, ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 확인: 시퀀스 번호가 있는데 기기 정보가 비어 있는 기록이 없어야 합니다.
+-- SELECT COUNT(*) FROM intake_records WHERE device_seq IS NOT NULL AND (device_serial_number IS NULL OR device_seq_epoch IS NULL);
@@ -0,0 +1,7 @@
+-- ============================================================
+-- 사용하지 않는 섭취/급여 시간 단위 집계 테이블(intake_hourly_rollups) 삭제
+-- - 시간 단위 집계를 읽는 조회가 없어 수집마다 쓰기 비용만 들었으므로, 백엔드가 더 이상 갱신하지 않습니다.
+-- - ddl-auto=update는 테이블을 삭제하지 않으므로 백엔드 배포 후에 실행합니다. (배포 전에 실행하면 이전 버전의 수집이 실패함)
+-- ============================================================
+
+DROP TABLE IF EXISTS `intake_hourly_rollups`;